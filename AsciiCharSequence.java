@@ -0,0 +1,83 @@
+package LinkedNumbers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A read-only CharSequence view over ASCII bytes, so that digits arriving as bytes can be
+ * parsed in place. Each byte is read as the character with the same value; nothing is
+ * copied or decoded up front.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Creates a view over a slice of a byte array.
+     *
+     * @param array The bytes.
+     * @param offset The index of the first byte of the slice.
+     * @param length The number of bytes in the slice.
+     * @throws IndexOutOfBoundsException if the slice does not fit in the array.
+     */
+    AsciiCharSequence(byte[] array, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length);
+        }
+        this.array = array;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Creates a view over the bytes of a buffer between its position and its limit. Reads
+     * are absolute, so the position of the buffer is not moved.
+     *
+     * @param buffer The bytes.
+     */
+    AsciiCharSequence(ByteBuffer buffer) {
+        this.array = null;
+        this.buffer = buffer;
+        this.offset = buffer.position();
+        this.length = buffer.remaining();
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        byte b = array != null ? array[offset + index] : buffer.get(offset + index);
+        return (char) (b & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        if (array != null) {
+            return new AsciiCharSequence(array, offset + start, end - start);
+        }
+        ByteBuffer slice = buffer.duplicate();
+        slice.limit(offset + end).position(offset + start);
+        return new AsciiCharSequence(slice);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(charAt(i));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,235 @@
+package LinkedNumbers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Converts sequences of digit values from one base to another without ever going
+ * through an int or double. The value being converted is held in a multi-word
+ * intermediate: a little-endian array of limbs, where every limb packs as many
+ * digits of the target base as fit in 16 bits. Because each limb carries several
+ * target digits and every step consumes a whole word of source digits, the work
+ * per digit is kept small and there is no limit on the length of the number.
+ * <p>
+ * Short numbers are folded in digit-by-digit order, which is quadratic. Longer numbers
+ * are split recursively: the high and low halves are converted on their own and then
+ * recombined as high * fromBase^k + low, using precomputed powers fromBase^(T 2^i)
+ * held in the target radix. This runs in O(M(n) log n) instead of O(n^2), where M(n)
+ * is the cost of LimbMath.multiply at n limbs: each level of the recursion multiplies
+ * at the size LimbMath picks Karatsuba, Toom-Cook 3-way or number-theoretic transforms
+ * for, so very long numbers convert in close to O(n log^2 n).
+ */
+final class BaseConverter {
+
+    /**
+     * The largest limb radix used for the intermediate representation. Products of two
+     * limbs plus a carry must comfortably fit in a long.
+     */
+    static final int MAX_LIMB_RADIX = 1 << 16;
+
+    /**
+     * The largest power of a source base that is folded into the intermediate in one step.
+     */
+    private static final long MAX_CHUNK = Integer.MAX_VALUE;
+
+    /**
+     * Number of source digits at or below which the recursive split stops and the
+     * digits are folded in directly. Also the length of the smallest precomputed power.
+     */
+    static final int SPLIT_THRESHOLD = 2048;
+
+    private BaseConverter() {
+    }
+
+    /**
+     * Converts the digit values of a number from one base to another.
+     *
+     * @param digits The digit values, most significant first. Every value must be in the
+     *               range 0 to fromBase - 1.
+     * @param fromBase The base the digits are written in.
+     * @param toBase The base to convert to.
+     * @return The digit values in the new base, most significant first, with leading
+     *         zeros removed. Zero is returned as a single 0 digit.
+     */
+    static int[] convert(int[] digits, int fromBase, int toBase) {
+        // Leading zeros do not contribute to the value.
+        int start = 0;
+        while (start < digits.length && digits[start] == 0) {
+            start++;
+        }
+        if (start == digits.length) {
+            return new int[] {0};
+        }
+        int radix = limbRadix(toBase);
+        int[] limbs;
+        if (digits.length - start <= SPLIT_THRESHOLD) {
+            limbs = toLimbs(digits, start, digits.length, fromBase, radix);
+        } else {
+            limbs = toLimbsRecursive(digits, start, digits.length, fromBase, radix, new ArrayList<>());
+        }
+        return fromLimbs(limbs, toBase);
+    }
+
+    /**
+     * Folds a range of digits into limbs by splitting it in two, converting each half and
+     * recombining them. The low half is always SPLIT_THRESHOLD * 2^i digits long, so only
+     * a logarithmic number of distinct powers of the source base are ever needed.
+     *
+     * @param digits The digit values, most significant first.
+     * @param from The index of the first digit to read.
+     * @param to The index after the last digit to read.
+     * @param fromBase The base the digits are written in.
+     * @param radix The radix of the limbs to produce.
+     * @param powers The powers fromBase^(SPLIT_THRESHOLD 2^i) computed so far, by i.
+     * @return The value as limbs, least significant first, without high zero limbs.
+     */
+    private static int[] toLimbsRecursive(int[] digits, int from, int to, int fromBase, int radix,
+            List<int[]> powers) {
+        int length = to - from;
+        if (length <= SPLIT_THRESHOLD) {
+            return toLimbs(digits, from, to, fromBase, radix);
+        }
+        // Largest power-of-two multiple of the threshold that leaves a non-empty high part.
+        int level = 0;
+        while ((long) SPLIT_THRESHOLD << (level + 1) < length) {
+            level++;
+        }
+        int split = to - (SPLIT_THRESHOLD << level);
+        int[] high = toLimbsRecursive(digits, from, split, fromBase, radix, powers);
+        int[] low = toLimbsRecursive(digits, split, to, fromBase, radix, powers);
+        int[] scaled = LimbMath.multiply(high, power(level, fromBase, radix, powers), radix);
+        return LimbMath.add(scaled, low, radix);
+    }
+
+    /**
+     * Returns fromBase^(SPLIT_THRESHOLD 2^level) in the given radix, squaring the previous
+     * power on first use.
+     *
+     * @param level The exponent of two in the power.
+     * @param fromBase The base being raised.
+     * @param radix The radix of the limbs.
+     * @param powers The powers computed so far, by level.
+     * @return The requested power.
+     */
+    private static int[] power(int level, int fromBase, int radix, List<int[]> powers) {
+        if (powers.isEmpty()) {
+            // fromBase^SPLIT_THRESHOLD is a one followed by SPLIT_THRESHOLD zeros.
+            int[] one = new int[SPLIT_THRESHOLD + 1];
+            one[0] = 1;
+            powers.add(toLimbs(one, 0, one.length, fromBase, radix));
+        }
+        while (powers.size() <= level) {
+            int[] last = powers.get(powers.size() - 1);
+            powers.add(LimbMath.multiply(last, last, radix));
+        }
+        return powers.get(level);
+    }
+
+    /**
+     * Returns the radix of the limbs used to hold numbers that will be written in the
+     * given base: the largest power of the base that does not exceed MAX_LIMB_RADIX.
+     *
+     * @param base The digit base.
+     * @return The limb radix for that base.
+     */
+    static int limbRadix(int base) {
+        int radix = base;
+        while ((long) radix * base <= MAX_LIMB_RADIX) {
+            radix *= base;
+        }
+        return radix;
+    }
+
+    /**
+     * Returns how many digits of the given base are packed into one limb.
+     *
+     * @param base The digit base.
+     * @return The number of digits per limb.
+     */
+    static int digitsPerLimb(int base) {
+        int count = 1;
+        long radix = base;
+        while (radix * base <= MAX_LIMB_RADIX) {
+            radix *= base;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Folds a range of digits into a little-endian limb array by Horner's rule. The digits
+     * are consumed a word at a time: each step multiplies the accumulated limbs by
+     * fromBase^k and adds the next k digits, so the long-hand loop runs once per word
+     * rather than once per digit.
+     *
+     * @param digits The digit values, most significant first.
+     * @param from The index of the first digit to read.
+     * @param to The index after the last digit to read.
+     * @param fromBase The base the digits are written in.
+     * @param radix The radix of the limbs to produce.
+     * @return The value as limbs, least significant first, without high zero limbs.
+     */
+    static int[] toLimbs(int[] digits, int from, int to, int fromBase, int radix) {
+        // Number of source digits that fit in one chunk.
+        int chunk = 1;
+        long chunkScale = fromBase;
+        while (chunkScale * fromBase <= MAX_CHUNK) {
+            chunkScale *= fromBase;
+            chunk++;
+        }
+        // Upper bound on the number of limbs the value can need.
+        int capacity = (int) ((to - from) * (Math.log(fromBase) / Math.log(radix))) + 2;
+        int[] acc = new int[capacity];
+        int size = 0;
+        int i = from;
+        while (i < to) {
+            // Read the next chunk of digits as a single word.
+            int n = Math.min(chunk, to - i);
+            long scale = 1;
+            long carry = 0;
+            for (int j = 0; j < n; j++) {
+                carry = carry * fromBase + digits[i++];
+                scale *= fromBase;
+            }
+            // acc = acc * scale + chunk value.
+            for (int k = 0; k < size; k++) {
+                long t = acc[k] * scale + carry;
+                acc[k] = (int) (t % radix);
+                carry = t / radix;
+            }
+            while (carry != 0) {
+                acc[size++] = (int) (carry % radix);
+                carry /= radix;
+            }
+        }
+        return Arrays.copyOf(acc, size);
+    }
+
+    /**
+     * Unpacks a little-endian limb array into digits of the given base.
+     *
+     * @param limbs The value as limbs of radix limbRadix(toBase), least significant first.
+     * @param toBase The base of the digits to produce.
+     * @return The digit values, most significant first, with leading zeros removed. Zero
+     *         is returned as a single 0 digit.
+     */
+    static int[] fromLimbs(int[] limbs, int toBase) {
+        int perLimb = digitsPerLimb(toBase);
+        int[] out = new int[Math.max(1, limbs.length * perLimb)];
+        // Fill from the least significant end.
+        int pos = out.length;
+        for (int limb : limbs) {
+            for (int j = 0; j < perLimb; j++) {
+                out[--pos] = limb % toBase;
+                limb /= toBase;
+            }
+        }
+        // Strip the leading zeros left over in the top limb.
+        int start = 0;
+        while (start < out.length - 1 && out[start] == 0) {
+            start++;
+        }
+        return Arrays.copyOfRange(out, start, out.length);
+    }
+}
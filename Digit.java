@@ -2,40 +2,62 @@ package LinkedNumbers;
 
 public class Digit {
 	
-	private char digit;
+	/**
+	 * Value of every ASCII character as a digit, or -1 if it is not one.
+	 */
+	private static final int[] VALUES = new int[128];
+	
+	/**
+	 * One shared instance for every ASCII character.
+	 */
+	private static final Digit[] CACHE = new Digit[128];
+	
+	static {
+		for (char c = 0; c < VALUES.length; c++) {
+			VALUES[c] = -1;
+			CACHE[c] = new Digit(c);
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			VALUES[c] = c - '0';
+		}
+		for (char c = 'A'; c <= 'F'; c++) {
+			VALUES[c] = c - 'A' + 10;
+		}
+	}
+	
+	private final char digit;
 	
 	public Digit (char d) {
 		digit = d;
 	}
+	
+	/**
+	 * Returns the Digit for a character. Digits are immutable, so every ASCII character 
+	 * has one shared instance and no new object is allocated.
+	 * 
+	 * @param d The character of the digit.
+	 * @return The Digit for that character.
+	 */
+	public static Digit of (char d) {
+		return d < CACHE.length ? CACHE[d] : new Digit(d);
+	}
+	
+	/**
+	 * Returns the value of a character as a digit, looked up in a table.
+	 * 
+	 * @param d The character of the digit.
+	 * @return The value of the digit (0 to 15), or -1 if it is not a digit.
+	 */
+	static int valueOf (char d) {
+		return d < VALUES.length ? VALUES[d] : -1;
+	}
 
 	public int getValue () {
-		switch (digit) {
-			case 'A':
-				return 10;
-			case 'B':
-				return 11;
-			case 'C':
-				return 12;
-			case 'D':
-				return 13;
-			case 'E':
-				return 14;
-			case 'F':
-				return 15;
-			case '0':
-			case '1':
-			case '2':
-			case '3':
-			case '4':
-			case '5':
-			case '6':
-			case '7':
-			case '8':
-			case '9':
-				return Integer.parseInt(String.valueOf(digit));
-			default:
-				return -1;
-			}
+		return valueOf(digit);
+	}
+	
+	char getSymbol () {
+		return digit;
 	}
 	
 	public String toString () {
@@ -46,4 +68,12 @@ public class Digit {
 		return digit == other.digit;
 	}
 	
+	public boolean equals (Object other) {
+		return other instanceof Digit && equals((Digit) other);
+	}
+	
+	public int hashCode () {
+		return digit;
+	}
+	
 }
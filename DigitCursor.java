@@ -0,0 +1,81 @@
+package LinkedNumbers;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A cursor over the digits of a LinkedNumber. The DLNode views handed out by getFront and
+ * getRear are a new object for every step; a cursor is a single object that moves along
+ * the digits, so walking a number of any length allocates nothing per digit. It lies
+ * between two digits, like a ListIterator: next returns the digit after it and moves
+ * towards the rear, previous the digit before it and moves towards the front. Like the
+ * views it is read-only and stops being valid once digits are added or removed.
+ */
+public final class DigitCursor {
+    private final DigitStore digits;
+    // The position from the front of the digit that next returns.
+    private int index;
+
+    /**
+     * Creates a cursor.
+     *
+     * @param digits The digits to walk.
+     * @param index The position from the front of the digit that next returns first.
+     */
+    DigitCursor(DigitStore digits, int index) {
+        this.digits = digits;
+        this.index = index;
+    }
+
+    /**
+     * Checks whether there is a digit between the cursor and the rear.
+     *
+     * @return True if next can be called.
+     */
+    public boolean hasNext() {
+        return index < digits.size();
+    }
+
+    /**
+     * Returns the digit after the cursor and moves the cursor past it, towards the rear.
+     *
+     * @return The digit.
+     * @throws NoSuchElementException if the cursor is at the rear.
+     */
+    public Digit next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return Digit.of(digits.charAt(index++));
+    }
+
+    /**
+     * Checks whether there is a digit between the cursor and the front.
+     *
+     * @return True if previous can be called.
+     */
+    public boolean hasPrevious() {
+        return index > 0;
+    }
+
+    /**
+     * Returns the digit before the cursor and moves the cursor past it, towards the front.
+     *
+     * @return The digit.
+     * @throws NoSuchElementException if the cursor is at the front.
+     */
+    public Digit previous() {
+        if (!hasPrevious()) {
+            throw new NoSuchElementException();
+        }
+        return Digit.of(digits.charAt(--index));
+    }
+
+    /**
+     * Returns the position from the front of the digit that next would return.
+     *
+     * @return The position, between 0 and the number of digits.
+     */
+    public int nextIndex() {
+        return index;
+    }
+}
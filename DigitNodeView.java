@@ -0,0 +1,54 @@
+package LinkedNumbers;
+
+/**
+ * A read-only DLNode standing for one position of a DigitStore, so that callers that expect
+ * a chain of DLNodes can walk any store. Views are created on demand while traversing and
+ * become stale once digits are added or removed. Each step looks its digit up by position:
+ * O(1) in the packed and mapped stores and in the unrolled list, which remembers the chunk
+ * it touched last, and O(log n) in the indexed store.
+ */
+final class DigitNodeView extends DLNode<Digit> {
+    private final DigitStore digits;
+    private final int index;
+
+    /**
+     * Creates a view.
+     *
+     * @param digits The store.
+     * @param index The position from the front of the digit the view stands for.
+     */
+    DigitNodeView(DigitStore digits, int index) {
+        this.digits = digits;
+        this.index = index;
+    }
+
+    @Override
+    public DLNode<Digit> getPrev() {
+        return index == 0 ? null : new DigitNodeView(digits, index - 1);
+    }
+
+    @Override
+    public DLNode<Digit> getNext() {
+        return index == digits.size() - 1 ? null : new DigitNodeView(digits, index + 1);
+    }
+
+    @Override
+    public Digit getElement() {
+        return Digit.of(digits.charAt(index));
+    }
+
+    @Override
+    public void setPrev(DLNode<Digit> node) {
+        throw new UnsupportedOperationException("digit views are read-only");
+    }
+
+    @Override
+    public void setNext(DLNode<Digit> node) {
+        throw new UnsupportedOperationException("digit views are read-only");
+    }
+
+    @Override
+    public void setElement(Digit elem) {
+        throw new UnsupportedOperationException("digit views are read-only");
+    }
+}
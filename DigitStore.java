@@ -0,0 +1,114 @@
+package LinkedNumbers;
+
+/**
+ * Storage for the digits of a LinkedNumber. Positions are counted from the front (the
+ * most significant digit), starting at 0. LinkedNumber only talks to its digits through
+ * this interface, so the layout can be swapped without changing its public API.
+ */
+interface DigitStore {
+
+    /**
+     * Returns the number of digits held.
+     *
+     * @return The number of digits.
+     */
+    int size();
+
+    /**
+     * Returns the digit character at a position.
+     *
+     * @param index The position from the front, between 0 and size() - 1.
+     * @return The digit character.
+     */
+    char charAt(int index);
+
+    /**
+     * Returns the value of the digit at a position, as Digit.getValue would.
+     *
+     * @param index The position from the front, between 0 and size() - 1.
+     * @return The value of the digit, or -1 if the character is not a digit.
+     */
+    int valueAt(int index);
+
+    /**
+     * Finds the first digit whose value is not below a base, or that is not a digit at
+     * all. Stores that keep their digits in one contiguous array check many at once.
+     *
+     * @param base The base to check against.
+     * @return The position from the front of the first bad digit, or -1 if there is none.
+     */
+    int indexOfInvalid(int base);
+
+    /**
+     * Checks whether this store can hold a character. Stores with a compact encoding may
+     * only accept real digit characters.
+     *
+     * @param symbol The character to check.
+     * @return True if the character can be stored.
+     */
+    boolean accepts(char symbol);
+
+    /**
+     * Replaces the digit at a position.
+     *
+     * @param index The position from the front, between 0 and size() - 1.
+     * @param symbol The new digit character, which must be accepted by this store.
+     */
+    void set(int index, char symbol);
+
+    /**
+     * Adds a digit after the current last digit.
+     *
+     * @param symbol The digit character to add, which must be accepted by this store.
+     */
+    void addLast(char symbol);
+
+    /**
+     * Inserts a digit so that it ends up at the given position.
+     *
+     * @param index The position from the front, between 0 and size().
+     * @param symbol The digit character to insert, which must be accepted by this store.
+     */
+    void insert(int index, char symbol);
+
+    /**
+     * Removes the digit at a position.
+     *
+     * @param index The position from the front, between 0 and size() - 1.
+     * @return The removed digit character.
+     */
+    char remove(int index);
+
+    /**
+     * Adds zero digits before the current first digit.
+     *
+     * @param count The number of zeros to add.
+     */
+    void insertLeadingZeros(int count);
+
+    /**
+     * Removes digits from the front.
+     *
+     * @param count The number of digits to remove, at most size().
+     */
+    void removeLeading(int count);
+
+    /**
+     * Returns a read-only node view of the first digit. Views can be walked with getNext
+     * and getPrev and become stale once digits are added or removed.
+     *
+     * @return The view, or null if the store is empty.
+     */
+    default DLNode<Digit> getFirstNode() {
+        return size() == 0 ? null : new DigitNodeView(this, 0);
+    }
+
+    /**
+     * Returns a read-only node view of the last digit.
+     *
+     * @return The view, or null if the store is empty.
+     */
+    default DLNode<Digit> getLastNode() {
+        return size() == 0 ? null : new DigitNodeView(this, size() - 1);
+    }
+}
@@ -0,0 +1,184 @@
+package LinkedNumbers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Finds the first character that is not a digit of a base, eight lanes at a time. Eight
+ * ASCII characters, or sixteen packed digits, are loaded into one long and every byte lane
+ * is range-checked at once with a few additions and masks: adding 0x80 - lo to a lane
+ * below 0x80 sets its top bit exactly when the lane is at least lo, and no carry crosses
+ * into the next lane. Only a word that holds a bad lane is looked at lane by lane to find
+ * the position. Storage that is not one contiguous array is checked one digit at a time.
+ */
+final class DigitValidator {
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH = 0x8080808080808080L;
+    private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+    private static final long NIBBLES = 0x0F0F0F0F0F0F0F0FL;
+
+    /**
+     * Reads eight bytes of an array as a little-endian long, so lane j is byte j.
+     */
+    private static final VarHandle LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private DigitValidator() {
+    }
+
+    /**
+     * Finds the first byte in a slice of an array that is not an ASCII digit of a base.
+     *
+     * @param bytes The characters, one byte each.
+     * @param from The index of the first byte to check.
+     * @param to The index after the last byte to check.
+     * @param base The base.
+     * @return The index of the first bad byte, or -1 if all of them are digits.
+     */
+    static int indexOfInvalid(byte[] bytes, int from, int to, int base) {
+        base = clamp(base);
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long bad = invalidLanes((long) LONGS.get(bytes, i), base);
+            if (bad != 0) {
+                return i + Long.numberOfTrailingZeros(bad) / Byte.SIZE;
+            }
+        }
+        for (; i < to; i++) {
+            if (!isDigit((char) (bytes[i] & 0xFF), base)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first byte in part of a buffer that is not an ASCII digit of a base. Reads
+     * are absolute, so the position of the buffer is not moved.
+     *
+     * @param buffer The characters, one byte each, in little-endian byte order.
+     * @param from The index of the first byte to check.
+     * @param to The index after the last byte to check.
+     * @param base The base.
+     * @return The index of the first bad byte, or -1 if all of them are digits.
+     */
+    static int indexOfInvalid(ByteBuffer buffer, int from, int to, int base) {
+        base = clamp(base);
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long bad = invalidLanes(buffer.getLong(i), base);
+            if (bad != 0) {
+                return i + Long.numberOfTrailingZeros(bad) / Byte.SIZE;
+            }
+        }
+        for (; i < to; i++) {
+            if (!isDigit((char) (buffer.get(i) & 0xFF), base)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first digit of a packed array, two digits to a byte with the first in the
+     * high nibble, whose value is not below a base.
+     *
+     * @param data The packed digits.
+     * @param size The number of digits.
+     * @param base The base.
+     * @return The position of the first bad digit, or -1 if all of them are below the base.
+     */
+    static int indexOfInvalidPacked(byte[] data, int size, int base) {
+        base = clamp(base);
+        if (base == 16) {
+            return -1;
+        }
+        long limit = ONES * (0x80 - base);
+        int whole = size / 2;
+        int i = 0;
+        for (; i + Long.BYTES <= whole; i += Long.BYTES) {
+            long w = (long) LONGS.get(data, i);
+            long bad = (((w >>> 4) & NIBBLES) + limit | (w & NIBBLES) + limit) & HIGH;
+            if (bad != 0) {
+                break;
+            }
+        }
+        // From the word with a bad digit, or the tail, one digit at a time.
+        for (int index = 2 * i; index < size; index++) {
+            int b = data[index >> 1];
+            int value = (index & 1) == 0 ? (b >> 4) & 0xF : b & 0xF;
+            if (value >= base) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first character in part of an array that is not a digit of a base.
+     *
+     * @param chars The characters.
+     * @param from The index of the first character to check.
+     * @param to The index after the last character to check.
+     * @param base The base.
+     * @return The index of the first bad character, or -1 if all of them are digits.
+     */
+    static int indexOfInvalid(char[] chars, int from, int to, int base) {
+        for (int i = from; i < to; i++) {
+            if (!isDigit(chars[i], base)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks one character.
+     *
+     * @param c The character.
+     * @param base The base.
+     * @return True if the character is a digit whose value is below the base.
+     */
+    static boolean isDigit(char c, int base) {
+        int value = Digit.valueOf(c);
+        return value != -1 && value < base;
+    }
+
+    /**
+     * Marks the lanes of a word of ASCII characters that are not digits of a base.
+     *
+     * @param w Eight characters, one per byte lane.
+     * @param base The base, between 0 and 16.
+     * @return A word with the top bit of every bad lane set and all other bits clear.
+     */
+    private static long invalidLanes(long w, int base) {
+        long t = w & LOW7;
+        long valid = inRange(t, '0', '0' + Math.min(base, 10));
+        if (base > 10) {
+            valid |= inRange(t, 'A', 'A' + base - 10);
+        }
+        // Bytes from 0x80 up are never digits.
+        return ~(valid & ~w) & HIGH;
+    }
+
+    /**
+     * Marks the lanes that lie in a range.
+     *
+     * @param t Eight lanes, each below 0x80.
+     * @param lo The lowest value in the range.
+     * @param hi The value after the highest one in the range.
+     * @return A word with the top bit of every lane in the range set.
+     */
+    private static long inRange(long t, int lo, int hi) {
+        long atLeastLo = t + ONES * (0x80 - lo);
+        long atLeastHi = t + ONES * (0x80 - hi);
+        return atLeastLo & ~atLeastHi & HIGH;
+    }
+
+    private static int clamp(int base) {
+        return Math.max(0, Math.min(base, 16));
+    }
+}
@@ -0,0 +1,127 @@
+package LinkedNumbers;
+
+/**
+ * Converts the digits after a radix point from one base to another, one block of output
+ * digits at a time. The fraction is held as little-endian limbs of radix
+ * limbRadix(fromBase), lined up so that the top limb holds the first digits after the
+ * point. Multiplying the fraction by toBase^k pushes the next k output digits out of the
+ * top limb as the carry, so digits come out from the most significant one down and the
+ * work stops as soon as enough of them have been produced, however long the exact
+ * expansion would be. Low limbs that have become zero are skipped, so a fraction that
+ * terminates in the new base stops costing anything once it runs out.
+ */
+final class FractionConverter {
+
+    /**
+     * What is left after the last digit produced: nothing.
+     */
+    static final int EXACT = 0;
+
+    /**
+     * What is left after the last digit produced: less than half a unit of that digit.
+     */
+    static final int BELOW_HALF = 1;
+
+    /**
+     * What is left after the last digit produced: exactly half a unit of that digit.
+     */
+    static final int HALF = 2;
+
+    /**
+     * What is left after the last digit produced: more than half a unit of that digit.
+     */
+    static final int ABOVE_HALF = 3;
+
+    /**
+     * The largest multiplier applied to the fraction in one step, so that a limb times
+     * the multiplier plus a carry stays well inside a long.
+     */
+    private static final long MAX_MULTIPLIER = Integer.MAX_VALUE;
+
+    private FractionConverter() {
+    }
+
+    /**
+     * Produces the leading digits of a fraction in another base.
+     *
+     * @param fraction The digit values after the point, most significant first.
+     * @param fromBase The base the digits are written in.
+     * @param toBase The base to convert to.
+     * @param out Receives the digit values after the point in the new base, most
+     *            significant first; its length is the number of digits wanted.
+     * @return EXACT, BELOW_HALF, HALF or ABOVE_HALF, telling how the part of the fraction
+     *         beyond the last digit written compares with half a unit of that digit.
+     */
+    static int convert(int[] fraction, int fromBase, int toBase, int[] out) {
+        int radix = BaseConverter.limbRadix(fromBase);
+        int perLimb = BaseConverter.digitsPerLimb(fromBase);
+        int length = (fraction.length + perLimb - 1) / perLimb;
+        // Pack the digits, padding the last limb with zeros on the right.
+        int[] limbs = new int[length];
+        for (int j = 0; j < length; j++) {
+            int limb = 0;
+            for (int i = j * perLimb; i < (j + 1) * perLimb; i++) {
+                limb = limb * fromBase + (i < fraction.length ? fraction[i] : 0);
+            }
+            limbs[length - 1 - j] = limb;
+        }
+        int low = 0;
+        while (low < length && limbs[low] == 0) {
+            low++;
+        }
+
+        // The number of output digits produced per multiplication.
+        int block = 1;
+        long multiplier = toBase;
+        while (multiplier * toBase <= MAX_MULTIPLIER) {
+            multiplier *= toBase;
+            block++;
+        }
+        int written = 0;
+        while (written < out.length && low < length) {
+            int k = Math.min(block, out.length - written);
+            long m = 1;
+            for (int i = 0; i < k; i++) {
+                m *= toBase;
+            }
+            long carry = 0;
+            for (int i = low; i < length; i++) {
+                long t = limbs[i] * m + carry;
+                limbs[i] = (int) (t % radix);
+                carry = t / radix;
+            }
+            // The carry out of the top limb holds the next k digits.
+            for (int i = written + k - 1; i >= written; i--) {
+                out[i] = (int) (carry % toBase);
+                carry /= toBase;
+            }
+            written += k;
+            while (low < length && limbs[low] == 0) {
+                low++;
+            }
+        }
+        // Whatever was not produced is zero.
+        for (int i = written; i < out.length; i++) {
+            out[i] = 0;
+        }
+        if (low == length) {
+            return EXACT;
+        }
+        // Double the rest: it is at least a half if that carries out of the top limb.
+        long carry = 0;
+        for (int i = low; i < length; i++) {
+            long t = limbs[i] * 2L + carry;
+            limbs[i] = (int) (t % radix);
+            carry = t / radix;
+        }
+        if (carry == 0) {
+            return BELOW_HALF;
+        }
+        for (int i = low; i < length; i++) {
+            if (limbs[i] != 0) {
+                return ABOVE_HALF;
+            }
+        }
+        return HALF;
+    }
+}
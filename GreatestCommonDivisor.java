@@ -0,0 +1,255 @@
+package LinkedNumbers;
+
+/**
+ * Greatest common divisors and modular inverses of limb arrays of radix 2^16, least
+ * significant first.
+ * <p>
+ * While both numbers are long, Lehmer's method is used (Knuth, The Art of Computer
+ * Programming, 4.5.2): Euclid's algorithm is run on approximations made of
+ * the leading 45 to 60 bits of each number for as long as the quotients are certain to
+ * match the true ones, and the steps taken are collected in a 2 x 2 matrix that is then
+ * applied to the full numbers in one linear pass. Each pass moves the numbers about 30
+ * bits closer to the answer, so a long run of small quotients costs a multiplication
+ * by a word-sized cofactor per 30 bits instead of a full division per quotient. Once
+ * the smaller number fits in three limbs the rest is done in a long with the binary
+ * algorithm, which needs only shifts and subtractions.
+ */
+final class GreatestCommonDivisor {
+
+    private static final int RADIX = 1 << 16;
+    private static final int LIMB_BITS = 16;
+
+    /**
+     * The number of leading bits of the larger number used for the Lehmer approximations.
+     */
+    private static final int APPROXIMATION_BITS = 60;
+
+    /**
+     * Numbers of at most this many limbs are finished off in a single long.
+     */
+    private static final int SMALL_LIMBS = 3;
+
+    private GreatestCommonDivisor() {
+    }
+
+    /**
+     * Computes the greatest common divisor of two numbers.
+     *
+     * @param a The first number.
+     * @param b The second number.
+     * @return gcd(a, b), which is zero only if both numbers are zero.
+     */
+    static int[] gcd(int[] a, int[] b) {
+        if (LimbMath.compare(a, b) < 0) {
+            int[] t = a;
+            a = b;
+            b = t;
+        }
+        // a >= b from here on.
+        while (b.length > SMALL_LIMBS) {
+            long[] m = lehmerMatrix(a, b);
+            if (m == null) {
+                int[] r = LimbDivision.divide(a, b, RADIX)[1];
+                a = b;
+                b = r;
+            } else {
+                int[] na = combine(m[0], a, m[1], b);
+                int[] nb = combine(m[2], a, m[3], b);
+                a = na;
+                b = nb;
+            }
+        }
+        if (b.length == 0) {
+            return a;
+        }
+        long small = toLong(LimbDivision.divide(a, b, RADIX)[1]);
+        return fromLong(binaryGcd(toLong(b), small));
+    }
+
+    /**
+     * Computes the inverse of a number modulo another by the extended form of the same
+     * algorithm. Only the cofactors of x are tracked: every remainder r is kept as
+     * r = s x mod m, and since the cofactors alternate in sign only their magnitudes
+     * and the sign of the first need to be stored.
+     *
+     * @param x The number to invert.
+     * @param m The modulus, greater than one.
+     * @return The inverse of x modulo m, or null if x and m are not coprime.
+     */
+    static int[] modInverse(int[] x, int[] m) {
+        int[] r0 = m;
+        int[] r1 = LimbDivision.divide(x, m, RADIX)[1];
+        int[] u0 = new int[0];
+        int[] u1 = {1};
+        // The sign of the cofactor of r0; the cofactor of r1 has the other sign.
+        boolean negative0 = true;
+        while (r1.length != 0) {
+            long[] mat = r1.length > SMALL_LIMBS ? lehmerMatrix(r0, r1) : null;
+            if (mat == null) {
+                int[][] qr = LimbDivision.divide(r0, r1, RADIX);
+                int[] u2 = LimbMath.add(u0, LimbMath.multiply(qr[0], u1, RADIX), RADIX);
+                r0 = r1;
+                r1 = qr[1];
+                u0 = u1;
+                u1 = u2;
+                negative0 = !negative0;
+            } else {
+                int[] n0 = combine(mat[0], r0, mat[1], r1);
+                int[] n1 = combine(mat[2], r0, mat[3], r1);
+                // Opposite signs meet opposite signs, so the magnitudes add.
+                int[] v0 = combine(Math.abs(mat[0]), u0, Math.abs(mat[1]), u1);
+                int[] v1 = combine(Math.abs(mat[2]), u0, Math.abs(mat[3]), u1);
+                r0 = n0;
+                r1 = n1;
+                u0 = v0;
+                u1 = v1;
+                // The cofactors change sign with every step.
+                negative0 ^= mat[4] != 0;
+            }
+        }
+        if (r0.length != 1 || r0[0] != 1) {
+            return null;
+        }
+        return negative0 && u0.length != 0 ? LimbMath.subtract(m, u0, RADIX) : u0;
+    }
+
+    /**
+     * Runs Euclid's algorithm on the leading bits of two numbers for as long as the
+     * quotients are certain to be right. The cofactors are kept non-negative and a step is
+     * only accepted while Collins' condition shows that the remainder of the
+     * approximations is still larger than the cofactor error.
+     *
+     * @param a The larger number.
+     * @param b The smaller number.
+     * @return The matrix {p, q, r, s, odd} with (p a + q b, r a + s b) the pair of numbers
+     *         reached, where odd is 1 if an odd number of steps were taken; or null if not
+     *         even one step could be taken.
+     */
+    private static long[] lehmerMatrix(int[] a, int[] b) {
+        int bits = bitLength(a);
+        int shift = Math.max(0, (bits - APPROXIMATION_BITS + LIMB_BITS - 1) / LIMB_BITS);
+        long x = topLimbs(a, shift);
+        long y = topLimbs(b, shift);
+        long cA = 1;
+        long cB = 0;
+        long cC = 0;
+        long cD = 1;
+        int steps = 0;
+        while (y - cC != 0) {
+            long quotient = (x + (cA - 1)) / (y - cC);
+            long s = cB + quotient * cD;
+            long t = x - quotient * y;
+            if (s > t) {
+                break;
+            }
+            x = y;
+            y = t;
+            t = cA + quotient * cC;
+            cA = cD;
+            cB = cC;
+            cC = s;
+            cD = t;
+            steps++;
+        }
+        if (steps == 0) {
+            return null;
+        }
+        if ((steps & 1) == 0) {
+            return new long[] {cA, -cB, -cC, cD, 0};
+        }
+        return new long[] {-cB, cA, cD, -cC, 1};
+    }
+
+    /**
+     * Computes p a + q b in a single pass from the low limbs up. Collins' condition keeps
+     * the cofactors below 2^30, so each column fits in a long with room to spare.
+     *
+     * @param p The first cofactor.
+     * @param a The first number.
+     * @param q The second cofactor.
+     * @param b The second number.
+     * @return p a + q b, which must not be negative.
+     */
+    private static int[] combine(long p, int[] a, long q, int[] b) {
+        int n = Math.max(a.length, b.length);
+        int[] result = new int[n + 3];
+        long carry = 0;
+        for (int i = 0; i < n; i++) {
+            long t = carry;
+            if (i < a.length) {
+                t += p * a[i];
+            }
+            if (i < b.length) {
+                t += q * b[i];
+            }
+            result[i] = (int) (t & (RADIX - 1));
+            carry = t >> LIMB_BITS;
+        }
+        for (int i = n; carry != 0; i++) {
+            result[i] = (int) (carry & (RADIX - 1));
+            carry >>= LIMB_BITS;
+        }
+        return LimbMath.trim(result);
+    }
+
+    /**
+     * Computes the greatest common divisor of two non-negative longs by Stein's binary
+     * algorithm.
+     *
+     * @param a The first number.
+     * @param b The second number.
+     * @return gcd(a, b).
+     */
+    private static long binaryGcd(long a, long b) {
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        int twos = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        do {
+            b >>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long t = a;
+                a = b;
+                b = t;
+            }
+            b -= a;
+        } while (b != 0);
+        return a << twos;
+    }
+
+    private static int bitLength(int[] a) {
+        return (a.length - 1) * LIMB_BITS + 32 - Integer.numberOfLeadingZeros(a[a.length - 1]);
+    }
+
+    /**
+     * Returns a number with its lowest limbs dropped.
+     *
+     * @param a The number.
+     * @param shift The number of limbs to drop; what is left must fit in 60 bits.
+     * @return a / 2^(16 shift).
+     */
+    private static long topLimbs(int[] a, int shift) {
+        long value = 0;
+        for (int i = a.length - 1; i >= shift; i--) {
+            value = (value << LIMB_BITS) | a[i];
+        }
+        return value;
+    }
+
+    private static long toLong(int[] a) {
+        return topLimbs(a, 0);
+    }
+
+    private static int[] fromLong(long value) {
+        int[] limbs = new int[4];
+        for (int i = 0; i < limbs.length; i++) {
+            limbs[i] = (int) (value & (RADIX - 1));
+            value >>>= LIMB_BITS;
+        }
+        return LimbMath.trim(limbs);
+    }
+}
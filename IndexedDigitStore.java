@@ -0,0 +1,210 @@
+package LinkedNumbers;
+
+import java.util.Arrays;
+
+/**
+ * A DigitStore kept as an implicit treap: a balanced binary tree ordered by position,
+ * where every node records the size of its subtree. Finding, inserting and removing the
+ * digit at any position only walks one root-to-leaf path, so each takes O(log n)
+ * expected time instead of the O(n) shifting or scanning of the other stores. Each digit
+ * costs a tree node, so this store is meant to be switched on for edit-heavy numbers
+ * rather than used by default.
+ */
+final class IndexedDigitStore implements DigitStore {
+
+    /**
+     * A tree node holding one digit.
+     */
+    private static final class Node {
+        private char symbol;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(char symbol, int priority) {
+            this.symbol = symbol;
+            this.priority = priority;
+        }
+    }
+
+    private Node root;
+    private int seed = 0x2545F491;
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public char charAt(int index) {
+        return nodeAt(index).symbol;
+    }
+
+    @Override
+    public int valueAt(int index) {
+        return Digit.valueOf(charAt(index));
+    }
+
+    /**
+     * Walks the tree in order, keeping the path to the current node on a stack, so each
+     * digit is visited once instead of searched for from the root.
+     */
+    @Override
+    public int indexOfInvalid(int base) {
+        Node[] path = new Node[64];
+        int depth = 0;
+        int index = 0;
+        Node node = root;
+        while (node != null || depth > 0) {
+            while (node != null) {
+                if (depth == path.length) {
+                    path = Arrays.copyOf(path, depth * 2);
+                }
+                path[depth++] = node;
+                node = node.left;
+            }
+            node = path[--depth];
+            if (!DigitValidator.isDigit(node.symbol, base)) {
+                return index;
+            }
+            index++;
+            node = node.right;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean accepts(char symbol) {
+        return true;
+    }
+
+    @Override
+    public void set(int index, char symbol) {
+        nodeAt(index).symbol = symbol;
+    }
+
+    @Override
+    public void addLast(char symbol) {
+        insert(size(), symbol);
+    }
+
+    @Override
+    public void insert(int index, char symbol) {
+        Node[] parts = split(root, index);
+        root = merge(merge(parts[0], new Node(symbol, nextPriority())), parts[1]);
+    }
+
+    @Override
+    public char remove(int index) {
+        Node[] parts = split(root, index);
+        Node[] rest = split(parts[1], 1);
+        root = merge(parts[0], rest[1]);
+        return rest[0].symbol;
+    }
+
+    @Override
+    public void insertLeadingZeros(int count) {
+        Node zeros = null;
+        for (int i = 0; i < count; i++) {
+            zeros = merge(zeros, new Node('0', nextPriority()));
+        }
+        root = merge(zeros, root);
+    }
+
+    @Override
+    public void removeLeading(int count) {
+        root = split(root, count)[1];
+    }
+
+    /**
+     * Finds the node at a position by walking down from the root, steering by the sizes
+     * of the left subtrees.
+     *
+     * @param index The position from the front, between 0 and size() - 1.
+     * @return The node holding that position.
+     */
+    private Node nodeAt(int index) {
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Splits a tree into the nodes before a position and the nodes from it onwards.
+     *
+     * @param node The root of the tree to split.
+     * @param index The number of nodes that go to the first tree.
+     * @return The roots of the two trees, either of which may be null.
+     */
+    private static Node[] split(Node node, int index) {
+        if (node == null) {
+            return new Node[2];
+        }
+        Node[] parts;
+        if (index <= size(node.left)) {
+            parts = split(node.left, index);
+            node.left = parts[1];
+            parts[1] = node;
+        } else {
+            parts = split(node.right, index - size(node.left) - 1);
+            node.right = parts[0];
+            parts[0] = node;
+        }
+        update(node);
+        return parts;
+    }
+
+    /**
+     * Joins two trees where every node of the first comes before every node of the second.
+     *
+     * @param a The root of the first tree, or null.
+     * @param b The root of the second tree, or null.
+     * @return The root of the joined tree.
+     */
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    /**
+     * Returns the next pseudo-random heap priority (xorshift).
+     *
+     * @return A random priority.
+     */
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+}
@@ -0,0 +1,206 @@
+package LinkedNumbers;
+
+/**
+ * Integer k-th roots, floor(n^(1/k)), of limb arrays of radix 2^16, least significant
+ * first.
+ * <p>
+ * The root is found by Newton's iteration x' = ((k - 1) x + n / x^(k - 1)) / k, which
+ * decreases steadily towards the floor of the root when started from above it. The
+ * starting point comes from the same computation at half the precision: if r is the
+ * root of n with its low k h bits dropped, then (r + 1) 2^h is just above the root of n
+ * and already has its upper half of bits right, so two or three full-size steps finish
+ * the job. The sizes halve at every level of the recursion, so the whole computation
+ * costs a small constant times one full-size step.
+ */
+final class IntegerRoot {
+
+    private static final int RADIX = 1 << 16;
+    private static final int LIMB_BITS = 16;
+
+    /**
+     * Numbers of at most this many bits have their roots taken in a double.
+     */
+    private static final int SMALL_BITS = 52;
+
+    private IntegerRoot() {
+    }
+
+    /**
+     * Computes floor(n^(1/k)).
+     *
+     * @param n The number.
+     * @param k The degree of the root, at least 1.
+     * @return The root, without high zero limbs.
+     */
+    static int[] root(int[] n, int k) {
+        if (k == 1 || n.length == 0) {
+            return n;
+        }
+        int bits = bitLength(n);
+        if (bits <= SMALL_BITS) {
+            return fromLong(smallRoot(toLong(n), k));
+        }
+        if (k >= bits) {
+            // 2^(bits - 1) <= n < 2^bits, so the root is between 1 and 2.
+            return new int[] {1};
+        }
+        int h = bits / (2 * k);
+        int[] start;
+        if (h == 0) {
+            // The root has at most two bits; 2^ceil(bits / k) is above it.
+            start = shiftLeft(new int[] {1}, (bits + k - 1) / k);
+        } else {
+            int[] top = root(shiftRight(n, k * h), k);
+            start = shiftLeft(LimbMath.add(top, new int[] {1}, RADIX), h);
+        }
+        return newton(n, k, start);
+    }
+
+    /**
+     * Runs Newton's iteration down to the floor of the root.
+     *
+     * @param n The number.
+     * @param k The degree of the root, at least 2.
+     * @param x A starting point not below the root.
+     * @return floor(n^(1/k)).
+     */
+    private static int[] newton(int[] n, int k, int[] x) {
+        int[] degree = fromLong(k);
+        int[] lessOne = fromLong(k - 1);
+        while (true) {
+            int[] power = power(x, k - 1);
+            int[] quotient = LimbDivision.divide(n, power, RADIX)[0];
+            int[] sum = LimbMath.add(LimbMath.multiply(x, lessOne, RADIX), quotient, RADIX);
+            int[] next = LimbDivision.divide(sum, degree, RADIX)[0];
+            if (LimbMath.compare(next, x) >= 0) {
+                return x;
+            }
+            x = next;
+        }
+    }
+
+    /**
+     * Raises a number to a small power by repeated squaring.
+     *
+     * @param x The number.
+     * @param e The exponent, at least 1.
+     * @return x^e.
+     */
+    private static int[] power(int[] x, int e) {
+        int[] result = null;
+        int[] square = x;
+        while (true) {
+            if ((e & 1) != 0) {
+                result = result == null ? square : LimbMath.multiply(result, square, RADIX);
+            }
+            e >>>= 1;
+            if (e == 0) {
+                return result;
+            }
+            square = LimbMath.multiply(square, square, RADIX);
+        }
+    }
+
+    /**
+     * Computes floor(n^(1/k)) for a number that fits in a double without rounding. The
+     * estimate from Math.pow is corrected by at most a step or two either way.
+     *
+     * @param n The number, below 2^52.
+     * @param k The degree of the root, at least 2.
+     * @return The root.
+     */
+    private static long smallRoot(long n, int k) {
+        long r = (long) Math.pow(n, 1.0 / k);
+        while (r > 0 && exceeds(r, k, n)) {
+            r--;
+        }
+        while (!exceeds(r + 1, k, n)) {
+            r++;
+        }
+        return r;
+    }
+
+    /**
+     * Tells whether r^k is larger than n, stopping as soon as it is.
+     *
+     * @param r The candidate root, not negative.
+     * @param k The degree of the root.
+     * @param n The number.
+     * @return True if r^k > n.
+     */
+    private static boolean exceeds(long r, int k, long n) {
+        if (r <= 1) {
+            return r > n;
+        }
+        long p = 1;
+        for (int i = 0; i < k; i++) {
+            if (p > n / r) {
+                return true;
+            }
+            p *= r;
+        }
+        return false;
+    }
+
+    private static int bitLength(int[] a) {
+        return (a.length - 1) * LIMB_BITS + 32 - Integer.numberOfLeadingZeros(a[a.length - 1]);
+    }
+
+    /**
+     * Returns a / 2^bits.
+     *
+     * @param a The number.
+     * @param bits The number of bits to shift by.
+     * @return The shifted number, without high zero limbs.
+     */
+    private static int[] shiftRight(int[] a, int bits) {
+        int limbs = bits / LIMB_BITS;
+        int offset = bits % LIMB_BITS;
+        if (limbs >= a.length) {
+            return new int[0];
+        }
+        int[] result = new int[a.length - limbs];
+        for (int i = 0; i < result.length; i++) {
+            int low = a[i + limbs] >>> offset;
+            int high = i + limbs + 1 < a.length ? a[i + limbs + 1] << (LIMB_BITS - offset) : 0;
+            result[i] = (low | high) & (RADIX - 1);
+        }
+        return LimbMath.trim(result);
+    }
+
+    /**
+     * Returns a 2^bits.
+     *
+     * @param a The number.
+     * @param bits The number of bits to shift by.
+     * @return The shifted number, without high zero limbs.
+     */
+    private static int[] shiftLeft(int[] a, int bits) {
+        int limbs = bits / LIMB_BITS;
+        int offset = bits % LIMB_BITS;
+        int[] result = new int[a.length + limbs + 1];
+        for (int i = 0; i < a.length; i++) {
+            int shifted = a[i] << offset;
+            result[i + limbs] |= shifted & (RADIX - 1);
+            result[i + limbs + 1] |= shifted >>> LIMB_BITS;
+        }
+        return LimbMath.trim(result);
+    }
+
+    private static long toLong(int[] a) {
+        long value = 0;
+        for (int i = a.length - 1; i >= 0; i--) {
+            value = (value << LIMB_BITS) | a[i];
+        }
+        return value;
+    }
+
+    private static int[] fromLong(long value) {
+        int[] limbs = new int[4];
+        for (int i = 0; i < limbs.length; i++) {
+            limbs[i] = (int) (value & (RADIX - 1));
+            value >>>= LIMB_BITS;
+        }
+        return LimbMath.trim(limbs);
+    }
+}
@@ -0,0 +1,274 @@
+package LinkedNumbers;
+
+import java.util.Arrays;
+
+/**
+ * Division with remainder on limb arrays in the same layout as LimbMath: little-endian,
+ * radix at most 2^16, no high zero limbs. Single-limb divisors take one pass from the
+ * top limb down, moderate sizes use Knuth's Algorithm D, and large divisors use the
+ * recursive method of Burnikel and Ziegler, which reduces the division to a handful of
+ * half-size divisions and multiplications and so inherits the speed of LimbMath.multiply.
+ */
+final class LimbDivision {
+
+    /**
+     * Divisor length, in limbs, from which Burnikel-Ziegler recursion is used. Also the
+     * block length at which the recursion bottoms out into Algorithm D.
+     */
+    static final int BURNIKEL_ZIEGLER_THRESHOLD = 80;
+
+    /**
+     * How many limbs longer than the divisor the dividend must be before Burnikel-Ziegler
+     * recursion pays off.
+     */
+    static final int BURNIKEL_ZIEGLER_OFFSET = 40;
+
+    private static final int[] ZERO = new int[0];
+
+    private LimbDivision() {
+    }
+
+    /**
+     * Divides one number by another.
+     *
+     * @param a The dividend.
+     * @param b The divisor, not zero.
+     * @param radix The radix of the limbs.
+     * @return The quotient and the remainder, in that order.
+     */
+    static int[][] divide(int[] a, int[] b, int radix) {
+        if (LimbMath.compare(a, b) < 0) {
+            return new int[][] {ZERO, a};
+        }
+        if (b.length < BURNIKEL_ZIEGLER_THRESHOLD || a.length - b.length < BURNIKEL_ZIEGLER_OFFSET) {
+            return divideBasic(a, b, radix);
+        }
+        return divideBurnikelZiegler(a, b, radix);
+    }
+
+    /**
+     * Divides by a single limb in one pass, or by Algorithm D otherwise.
+     *
+     * @param a The dividend.
+     * @param b The divisor, not zero.
+     * @param radix The radix of the limbs.
+     * @return The quotient and the remainder, in that order.
+     */
+    private static int[][] divideBasic(int[] a, int[] b, int radix) {
+        if (LimbMath.compare(a, b) < 0) {
+            return new int[][] {ZERO, a};
+        }
+        if (b.length == 1) {
+            int[] quotient = new int[a.length];
+            int remainder = LimbMath.divideSmall(a, b[0], quotient, radix);
+            return new int[][] {LimbMath.trim(quotient), remainder == 0 ? ZERO : new int[] {remainder}};
+        }
+        return divideKnuth(a, b, radix);
+    }
+
+    /**
+     * Divides by Knuth's Algorithm D (The Art of Computer Programming, 4.3.1). Both
+     * operands are first scaled so the top limb of the divisor is at least radix / 2;
+     * each quotient limb is then estimated from the top two limbs of the running
+     * remainder, corrected with the second limb of the divisor, and is off by at most one.
+     *
+     * @param a The dividend, not smaller than b.
+     * @param b The divisor, at least two limbs long.
+     * @param radix The radix of the limbs.
+     * @return The quotient and the remainder, in that order.
+     */
+    private static int[][] divideKnuth(int[] a, int[] b, int radix) {
+        int n = b.length;
+        int m = a.length - n;
+        // Normalize.
+        int scale = radix / (b[n - 1] + 1);
+        int[] u = new int[a.length + 1];
+        int[] scaledA = LimbMath.multiplySmall(a, scale, radix);
+        System.arraycopy(scaledA, 0, u, 0, scaledA.length);
+        int[] v = LimbMath.multiplySmall(b, scale, radix);
+        long v1 = v[n - 1];
+        long v2 = v[n - 2];
+        int[] q = new int[m + 1];
+        for (int j = m; j >= 0; j--) {
+            // Estimate the next quotient limb.
+            long top = (long) u[j + n] * radix + u[j + n - 1];
+            long qhat = top / v1;
+            long rhat = top % v1;
+            while (qhat >= radix || qhat * v2 > rhat * radix + u[j + n - 2]) {
+                qhat--;
+                rhat += v1;
+                if (rhat >= radix) {
+                    break;
+                }
+            }
+            // Multiply and subtract.
+            long carry = 0;
+            int borrow = 0;
+            for (int i = 0; i < n; i++) {
+                long p = qhat * v[i] + carry;
+                carry = p / radix;
+                long t = u[i + j] - (p - carry * radix) - borrow;
+                if (t < 0) {
+                    t += radix;
+                    borrow = 1;
+                } else {
+                    borrow = 0;
+                }
+                u[i + j] = (int) t;
+            }
+            long t = u[j + n] - carry - borrow;
+            if (t < 0) {
+                // The estimate was one too large: add the divisor back.
+                qhat--;
+                int c = 0;
+                for (int i = 0; i < n; i++) {
+                    int s = u[i + j] + v[i] + c;
+                    c = s >= radix ? 1 : 0;
+                    u[i + j] = s - c * radix;
+                }
+                t += c;
+            }
+            u[j + n] = (int) t;
+            q[j] = (int) qhat;
+        }
+        // Undo the normalization of the remainder.
+        int[] remainder = LimbMath.slice(u, 0, n);
+        int[] unscaled = new int[remainder.length];
+        LimbMath.divideSmall(remainder, scale, unscaled, radix);
+        return new int[][] {LimbMath.trim(q), LimbMath.trim(unscaled)};
+    }
+
+    /**
+     * Divides by the recursive method of Burnikel and Ziegler ("Fast Recursive Division",
+     * 1998). The divisor is scaled so its top limb is at least radix / 2 and padded to a
+     * block length n = j 2^k just above the threshold; the dividend is then consumed one
+     * block at a time, each step being a division of 2n limbs by n limbs.
+     *
+     * @param a The dividend, not smaller than b.
+     * @param b The divisor.
+     * @param radix The radix of the limbs.
+     * @return The quotient and the remainder, in that order.
+     */
+    private static int[][] divideBurnikelZiegler(int[] a, int[] b, int radix) {
+        int s = b.length;
+        int blocks = 1 << (32 - Integer.numberOfLeadingZeros(s / BURNIKEL_ZIEGLER_THRESHOLD));
+        int n = ((s + blocks - 1) / blocks) * blocks;
+        int shift = n - s;
+        // Normalize the divisor to exactly n limbs with a large top limb.
+        int scale = radix / (b[s - 1] + 1);
+        int[] bn = shiftUp(LimbMath.multiplySmall(b, scale, radix), shift);
+        int[] an = shiftUp(LimbMath.multiplySmall(a, scale, radix), shift);
+        // Enough blocks that the top one is smaller than the divisor.
+        int t = Math.max(2, (an.length + n) / n);
+
+        int[] quotient = new int[t * n];
+        int[] z = LimbMath.slice(an, (t - 2) * n, t * n);
+        int[] remainder = ZERO;
+        for (int i = t - 2; i >= 0; i--) {
+            int[][] qr = divide2n1n(z, bn, n, radix);
+            System.arraycopy(qr[0], 0, quotient, i * n, qr[0].length);
+            if (i > 0) {
+                z = concat(LimbMath.slice(an, (i - 1) * n, i * n), qr[1], n);
+            } else {
+                remainder = qr[1];
+            }
+        }
+        // The remainder is (a mod b) * scale * radix^shift.
+        remainder = LimbMath.slice(remainder, shift, remainder.length);
+        int[] unscaled = new int[remainder.length];
+        LimbMath.divideSmall(remainder, scale, unscaled, radix);
+        return new int[][] {LimbMath.trim(quotient), LimbMath.trim(unscaled)};
+    }
+
+    /**
+     * Divides a number of at most 2n limbs by a normalized divisor of n limbs, where the
+     * quotient is known to fit in n limbs.
+     *
+     * @param a The dividend, smaller than b radix^n.
+     * @param b The divisor, n limbs with a top limb of at least radix / 2.
+     * @param n The block length.
+     * @param radix The radix of the limbs.
+     * @return The quotient and the remainder, in that order.
+     */
+    private static int[][] divide2n1n(int[] a, int[] b, int n, int radix) {
+        if ((n & 1) != 0 || n < BURNIKEL_ZIEGLER_THRESHOLD) {
+            return divideBasic(a, b, radix);
+        }
+        int half = n / 2;
+        // a = [A1 A2 A3 A4], each half limbs.
+        int[][] first = divide3n2n(LimbMath.slice(a, half, 2 * n), b, half, radix);
+        int[] rest = concat(LimbMath.slice(a, 0, half), first[1], half);
+        int[][] second = divide3n2n(rest, b, half, radix);
+        return new int[][] {concat(second[0], first[0], half), second[1]};
+    }
+
+    /**
+     * Divides a number of at most 3h limbs by a normalized divisor of 2h limbs, where the
+     * quotient is known to fit in h limbs.
+     *
+     * @param a The dividend, smaller than b radix^h.
+     * @param b The divisor, 2h limbs with a top limb of at least radix / 2.
+     * @param h The half block length.
+     * @param radix The radix of the limbs.
+     * @return The quotient and the remainder, in that order.
+     */
+    private static int[][] divide3n2n(int[] a, int[] b, int h, int radix) {
+        int[] b1 = LimbMath.slice(b, h, 2 * h);
+        int[] b2 = LimbMath.slice(b, 0, h);
+        int[] a1 = LimbMath.slice(a, 2 * h, 3 * h);
+        int[] q;
+        int[] r1;
+        if (LimbMath.compare(a1, b1) < 0) {
+            int[][] qr = divide2n1n(LimbMath.slice(a, h, 3 * h), b1, h, radix);
+            q = qr[0];
+            r1 = qr[1];
+        } else {
+            // A1 equals B1: the quotient estimate is radix^h - 1.
+            q = new int[h];
+            Arrays.fill(q, radix - 1);
+            r1 = LimbMath.add(LimbMath.slice(a, h, 2 * h), b1, radix);
+        }
+        int[] d = LimbMath.multiply(q, b2, radix);
+        int[] r = concat(LimbMath.slice(a, 0, h), r1, h);
+        // The estimate is at most two too large.
+        while (LimbMath.compare(r, d) < 0) {
+            r = LimbMath.add(r, b, radix);
+            q = LimbMath.subtract(q, new int[] {1}, radix);
+        }
+        return new int[][] {q, LimbMath.subtract(r, d, radix)};
+    }
+
+    /**
+     * Returns high radix^n + low.
+     *
+     * @param low The low part, shorter than n limbs.
+     * @param high The high part.
+     * @param n The number of limbs to shift the high part by.
+     * @return The combined number.
+     */
+    private static int[] concat(int[] low, int[] high, int n) {
+        if (high.length == 0) {
+            return low;
+        }
+        int[] result = new int[n + high.length];
+        System.arraycopy(low, 0, result, 0, low.length);
+        System.arraycopy(high, 0, result, n, high.length);
+        return result;
+    }
+
+    /**
+     * Returns a radix^shift.
+     *
+     * @param a The number to shift.
+     * @param shift The number of limbs to shift by.
+     * @return The shifted number.
+     */
+    private static int[] shiftUp(int[] a, int shift) {
+        if (a.length == 0 || shift == 0) {
+            return a;
+        }
+        int[] result = new int[a.length + shift];
+        System.arraycopy(a, 0, result, shift, a.length);
+        return result;
+    }
+}
@@ -0,0 +1,446 @@
+package LinkedNumbers;
+
+import java.util.Arrays;
+
+/**
+ * Arithmetic on non-negative numbers stored as little-endian arrays of limbs in an
+ * arbitrary radix of at most 2^16. Index 0 holds the least significant limb, every limb
+ * is between 0 and radix - 1, and arrays never carry high zero limbs, so zero is the
+ * empty array. Keeping the radix a power of the digit base lets LinkedNumber work on
+ * whole groups of digits at a time and unpack the result without any conversion.
+ */
+final class LimbMath {
+
+    /**
+     * Operand size, in limbs, below which multiplication is done long-hand rather than by
+     * Karatsuba splitting.
+     */
+    static final int KARATSUBA_THRESHOLD = 128;
+
+    /**
+     * Operand size, in limbs, from which multiplication switches from Karatsuba to
+     * Toom-Cook 3-way splitting.
+     */
+    static final int TOOM3_THRESHOLD = 256;
+
+    /**
+     * Operand size, in limbs, from which multiplication is done with number-theoretic
+     * transforms instead of Toom-Cook splitting.
+     */
+    static final int NTT_THRESHOLD = 1536;
+
+    private static final int[] ZERO = new int[0];
+
+    private LimbMath() {
+    }
+
+    /**
+     * Drops the high zero limbs of an array.
+     *
+     * @param a The limbs, least significant first.
+     * @return The same array if it has no high zero limbs, otherwise a shorter copy.
+     */
+    static int[] trim(int[] a) {
+        int len = a.length;
+        while (len > 0 && a[len - 1] == 0) {
+            len--;
+        }
+        return len == a.length ? a : Arrays.copyOf(a, len);
+    }
+
+    /**
+     * Returns the limbs a[from..to) as a number of its own, trimmed.
+     *
+     * @param a The limbs, least significant first.
+     * @param from The index of the first limb to keep.
+     * @param to The index after the last limb to keep, clipped to the length of a.
+     * @return The selected limbs.
+     */
+    static int[] slice(int[] a, int from, int to) {
+        to = Math.min(to, a.length);
+        if (from >= to) {
+            return ZERO;
+        }
+        return trim(Arrays.copyOfRange(a, from, to));
+    }
+
+    /**
+     * Adds two numbers.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param radix The radix of the limbs.
+     * @return a + b.
+     */
+    static int[] add(int[] a, int[] b, int radix) {
+        if (a.length < b.length) {
+            int[] t = a;
+            a = b;
+            b = t;
+        }
+        int[] sum = new int[a.length + 1];
+        int carry = 0;
+        for (int i = 0; i < a.length; i++) {
+            int t = a[i] + (i < b.length ? b[i] : 0) + carry;
+            if (t >= radix) {
+                sum[i] = t - radix;
+                carry = 1;
+            } else {
+                sum[i] = t;
+                carry = 0;
+            }
+        }
+        sum[a.length] = carry;
+        return trim(sum);
+    }
+
+    /**
+     * Subtracts one number from a larger or equal one.
+     *
+     * @param a The minuend.
+     * @param b The subtrahend, which must not exceed a.
+     * @param radix The radix of the limbs.
+     * @return a - b.
+     */
+    static int[] subtract(int[] a, int[] b, int radix) {
+        int[] diff = new int[a.length];
+        int borrow = 0;
+        for (int i = 0; i < a.length; i++) {
+            int t = a[i] - (i < b.length ? b[i] : 0) - borrow;
+            if (t < 0) {
+                diff[i] = t + radix;
+                borrow = 1;
+            } else {
+                diff[i] = t;
+                borrow = 0;
+            }
+        }
+        return trim(diff);
+    }
+
+    /**
+     * Adds b, shifted up by the given number of limbs, into a result array in place.
+     * The result must be long enough to absorb the final carry.
+     *
+     * @param result The array to add into.
+     * @param b The number to add.
+     * @param shift The number of limbs to shift b by.
+     * @param radix The radix of the limbs.
+     */
+    static void addShifted(int[] result, int[] b, int shift, int radix) {
+        int carry = 0;
+        int i = 0;
+        for (; i < b.length; i++) {
+            int t = result[i + shift] + b[i] + carry;
+            if (t >= radix) {
+                result[i + shift] = t - radix;
+                carry = 1;
+            } else {
+                result[i + shift] = t;
+                carry = 0;
+            }
+        }
+        for (int k = i + shift; carry != 0; k++) {
+            int t = result[k] + 1;
+            if (t == radix) {
+                result[k] = 0;
+            } else {
+                result[k] = t;
+                carry = 0;
+            }
+        }
+    }
+
+    /**
+     * Multiplies two numbers, picking the method by the length of the shorter operand:
+     * long-hand below KARATSUBA_THRESHOLD limbs, Karatsuba below TOOM3_THRESHOLD,
+     * Toom-Cook 3-way below NTT_THRESHOLD and number-theoretic transforms above that, as
+     * long as the product fits the transform. An operand more than twice as long as the
+     * other is cut into pieces the size of the shorter one first, so the splitting methods
+     * always see balanced operands.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param radix The radix of the limbs.
+     * @return a * b.
+     */
+    static int[] multiply(int[] a, int[] b, int radix) {
+        if (a.length < b.length) {
+            int[] t = a;
+            a = b;
+            b = t;
+        }
+        if (b.length == 0) {
+            return ZERO;
+        }
+        if (b.length < KARATSUBA_THRESHOLD) {
+            return multiplySchoolbook(a, b, radix);
+        }
+        if (2 * b.length <= a.length) {
+            return multiplyUnbalanced(a, b, radix);
+        }
+        if (b.length < TOOM3_THRESHOLD) {
+            return multiplyKaratsuba(a, b, radix);
+        }
+        if (b.length >= NTT_THRESHOLD) {
+            int[] product = NumberTheoreticTransform.multiply(a, b, radix);
+            if (product != null) {
+                return product;
+            }
+        }
+        return multiplyToom3(a, b, radix);
+    }
+
+    /**
+     * Multiplies two numbers long-hand. Column sums are accumulated in longs and the carries
+     * are propagated once at the end, so the inner loop is a plain multiply-add.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param radix The radix of the limbs.
+     * @return a * b.
+     */
+    static int[] multiplySchoolbook(int[] a, int[] b, int radix) {
+        long[] acc = new long[a.length + b.length];
+        for (int i = 0; i < a.length; i++) {
+            long ai = a[i];
+            if (ai == 0) {
+                continue;
+            }
+            for (int j = 0; j < b.length; j++) {
+                acc[i + j] += ai * b[j];
+            }
+        }
+        return normalize(acc, radix);
+    }
+
+    /**
+     * Multiplies a long number by a much shorter one, one slice of the long number at a
+     * time, each slice as long as the short number.
+     *
+     * @param a The longer operand.
+     * @param b The shorter operand.
+     * @param radix The radix of the limbs.
+     * @return a * b.
+     */
+    private static int[] multiplyUnbalanced(int[] a, int[] b, int radix) {
+        int[] result = new int[a.length + b.length + 1];
+        for (int offset = 0; offset < a.length; offset += b.length) {
+            int[] piece = multiply(slice(a, offset, offset + b.length), b, radix);
+            addShifted(result, piece, offset, radix);
+        }
+        return trim(result);
+    }
+
+    /**
+     * Multiplies two numbers by Karatsuba's method: with a = a1 R^h + a0 and
+     * b = b1 R^h + b0 the product needs only the three half-size products a0 b0, a1 b1
+     * and (a0 + a1)(b0 + b1).
+     *
+     * @param a The longer operand, at most twice as long as b.
+     * @param b The shorter operand.
+     * @param radix The radix of the limbs.
+     * @return a * b.
+     */
+    private static int[] multiplyKaratsuba(int[] a, int[] b, int radix) {
+        int half = (a.length + 1) / 2;
+        int[] result = new int[a.length + b.length + 1];
+        int[] a0 = slice(a, 0, half);
+        int[] a1 = slice(a, half, a.length);
+        int[] b0 = slice(b, 0, half);
+        int[] b1 = slice(b, half, b.length);
+        int[] z0 = multiply(a0, b0, radix);
+        int[] z2 = multiply(a1, b1, radix);
+        int[] z1 = multiply(add(a0, a1, radix), add(b0, b1, radix), radix);
+        z1 = subtract(subtract(z1, z0, radix), z2, radix);
+        addShifted(result, z0, 0, radix);
+        addShifted(result, z1, half, radix);
+        addShifted(result, z2, 2 * half, radix);
+        return trim(result);
+    }
+
+    /**
+     * Multiplies two numbers by Toom-Cook 3-way splitting. Each operand is cut into three
+     * parts and treated as a quadratic polynomial in R^k; the two polynomials are
+     * evaluated at 0, 1, -1, -2 and infinity, the five values are multiplied pairwise,
+     * and the product polynomial is recovered with Bodrato's interpolation sequence. Five
+     * third-size products replace the nine of the long-hand method.
+     *
+     * @param a The longer operand, at most twice as long as b.
+     * @param b The shorter operand.
+     * @param radix The radix of the limbs.
+     * @return a * b.
+     */
+    private static int[] multiplyToom3(int[] a, int[] b, int radix) {
+        int k = (a.length + 2) / 3;
+        Signed a0 = new Signed(slice(a, 0, k));
+        Signed a1 = new Signed(slice(a, k, 2 * k));
+        Signed a2 = new Signed(slice(a, 2 * k, a.length));
+        Signed b0 = new Signed(slice(b, 0, k));
+        Signed b1 = new Signed(slice(b, k, 2 * k));
+        Signed b2 = new Signed(slice(b, 2 * k, b.length));
+
+        // Evaluate both polynomials.
+        Signed pa = a0.add(a2, radix);
+        Signed pb = b0.add(b2, radix);
+        Signed a1v = pa.add(a1, radix);
+        Signed b1v = pb.add(b1, radix);
+        Signed am1 = pa.subtract(a1, radix);
+        Signed bm1 = pb.subtract(b1, radix);
+        Signed am2 = am1.add(a2, radix).shiftLeftOne(radix).subtract(a0, radix);
+        Signed bm2 = bm1.add(b2, radix).shiftLeftOne(radix).subtract(b0, radix);
+
+        // Pointwise products.
+        Signed r0 = a0.multiply(b0, radix);
+        Signed r1 = a1v.multiply(b1v, radix);
+        Signed rm1 = am1.multiply(bm1, radix);
+        Signed rm2 = am2.multiply(bm2, radix);
+        Signed rInf = a2.multiply(b2, radix);
+
+        // Interpolate.
+        Signed c3 = rm2.subtract(r1, radix).divideExact(3, radix);
+        Signed c1 = r1.subtract(rm1, radix).divideExact(2, radix);
+        Signed c2 = rm1.subtract(r0, radix);
+        c3 = c2.subtract(c3, radix).divideExact(2, radix).add(rInf.shiftLeftOne(radix), radix);
+        c2 = c2.add(c1, radix).subtract(rInf, radix);
+        c1 = c1.subtract(c3, radix);
+
+        int[] result = new int[a.length + b.length + 2];
+        addShifted(result, r0.magnitude, 0, radix);
+        addShifted(result, c1.magnitude, k, radix);
+        addShifted(result, c2.magnitude, 2 * k, radix);
+        addShifted(result, c3.magnitude, 3 * k, radix);
+        addShifted(result, rInf.magnitude, 4 * k, radix);
+        return trim(result);
+    }
+
+    /**
+     * Compares two numbers.
+     *
+     * @param a The first number.
+     * @param b The second number.
+     * @return A negative number, zero or a positive number as a is less than, equal to or
+     *         greater than b.
+     */
+    static int compare(int[] a, int[] b) {
+        if (a.length != b.length) {
+            return a.length < b.length ? -1 : 1;
+        }
+        for (int i = a.length - 1; i >= 0; i--) {
+            if (a[i] != b[i]) {
+                return a[i] < b[i] ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Divides a number by a small positive int, from the top limb down.
+     *
+     * @param a The dividend.
+     * @param divisor The divisor, at most Integer.MAX_VALUE / radix.
+     * @param quotient Receives the quotient; must be at least as long as a.
+     * @param radix The radix of the limbs.
+     * @return The remainder.
+     */
+    static int divideSmall(int[] a, int divisor, int[] quotient, int radix) {
+        long rem = 0;
+        for (int i = a.length - 1; i >= 0; i--) {
+            long cur = rem * radix + a[i];
+            quotient[i] = (int) (cur / divisor);
+            rem = cur % divisor;
+        }
+        return (int) rem;
+    }
+
+    /**
+     * Multiplies a number by a small non-negative int.
+     *
+     * @param a The number.
+     * @param factor The factor, at most radix.
+     * @param radix The radix of the limbs.
+     * @return a * factor.
+     */
+    static int[] multiplySmall(int[] a, int factor, int radix) {
+        int[] result = new int[a.length + 1];
+        long carry = 0;
+        for (int i = 0; i < a.length; i++) {
+            long t = (long) a[i] * factor + carry;
+            result[i] = (int) (t % radix);
+            carry = t / radix;
+        }
+        result[a.length] = (int) carry;
+        return trim(result);
+    }
+
+    /**
+     * Turns an array of unnormalized column sums into limbs by propagating carries.
+     *
+     * @param acc The column sums, least significant first. Each must be non-negative.
+     * @param radix The radix of the limbs.
+     * @return The normalized number.
+     */
+    static int[] normalize(long[] acc, int radix) {
+        int[] out = new int[acc.length + 4];
+        long carry = 0;
+        int i = 0;
+        for (; i < acc.length; i++) {
+            long t = acc[i] + carry;
+            out[i] = (int) (t % radix);
+            carry = t / radix;
+        }
+        while (carry != 0) {
+            out[i++] = (int) (carry % radix);
+            carry /= radix;
+        }
+        return trim(out);
+    }
+
+    /**
+     * A signed number made of a magnitude in limbs and a sign, used for the negative
+     * intermediate values of Toom-Cook interpolation.
+     */
+    private static final class Signed {
+        private final int[] magnitude;
+        private final boolean negative;
+
+        private Signed(int[] magnitude) {
+            this(magnitude, false);
+        }
+
+        private Signed(int[] magnitude, boolean negative) {
+            this.magnitude = magnitude;
+            this.negative = negative && magnitude.length > 0;
+        }
+
+        private Signed add(Signed other, int radix) {
+            if (negative == other.negative) {
+                return new Signed(LimbMath.add(magnitude, other.magnitude, radix), negative);
+            }
+            int cmp = compare(magnitude, other.magnitude);
+            if (cmp >= 0) {
+                return new Signed(LimbMath.subtract(magnitude, other.magnitude, radix), negative);
+            }
+            return new Signed(LimbMath.subtract(other.magnitude, magnitude, radix), other.negative);
+        }
+
+        private Signed subtract(Signed other, int radix) {
+            return add(new Signed(other.magnitude, !other.negative), radix);
+        }
+
+        private Signed multiply(Signed other, int radix) {
+            return new Signed(LimbMath.multiply(magnitude, other.magnitude, radix),
+                    negative != other.negative);
+        }
+
+        private Signed shiftLeftOne(int radix) {
+            return new Signed(LimbMath.add(magnitude, magnitude, radix), negative);
+        }
+
+        private Signed divideExact(int divisor, int radix) {
+            int[] quotient = new int[magnitude.length];
+            divideSmall(magnitude, divisor, quotient, radix);
+            return new Signed(trim(quotient), negative);
+        }
+    }
+}
@@ -1,95 +1,557 @@
 package LinkedNumbers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
 /**
- * Represents a number as a doubly-linked list of digits in a specified base. This class
- * allows for operations such as adding and removing digits, converting between bases,
- * and comparing numbers for equality.
+ * Represents a number as a sequence of digits in a specified base. This class allows
+ * for operations such as adding and removing digits, converting between bases, and
+ * comparing numbers for equality.
+ * <p>
+ * The digits are kept in a DigitStore. Numbers made only of the characters 0-9 and A-F
+ * are packed two digits to a byte; as soon as any other character is added the digits
+ * move to an unrolled linked list, where each node holds a small array of characters.
+ * setPositionalIndex moves them to a balanced tree instead, and map reads them from a
+ * file. getFront and getRear hand out DLNodes that can be walked with getNext and
+ * getPrev, as in the original doubly-linked list; these are read-only views over the
+ * store.
+ * <p>
+ * Numbers are signed: the digits hold the magnitude and a separate flag holds the sign, 
+ * which a leading '-' sets when parsing. No number is ever negative zero: "-0" parses as 
+ * 0, and negating or computing zero gives plain zero.
+ * <p>
+ * A number may have a radix point, EX: "1A.F3" in base 16. The digits after it are kept 
+ * in the same store as the rest, and a count of them places the point. Fractional 
+ * numbers can be compared and converted to other bases; arithmetic is for whole numbers.
  */
-public class LinkedNumber {
+public class LinkedNumber implements Comparable<LinkedNumber> {
+    /**
+     * The base of canonical forms.
+     */
+    private static final int CANONICAL_BASE = 16;
+
+    /**
+     * The slot of digitCounts that counts symbols that are not digits.
+     */
+    private static final int NOT_A_DIGIT = 16;
+
+    /**
+     * The size of the buffer that streamed digits are read through.
+     */
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * The number of characters written out at a time by writeTo.
+     */
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
 	private int base;
-    private DLNode<Digit> rear;
-    private DLNode<Digit> front;
+    private boolean negative;
+    private DigitStore digits;
+    // The number of digits after the radix point.
+    private int scale;
+    // How many digits of each value 0-15 there are, then how many symbols are not 
+    // digits; null for a mapped number, whose digits never change.
+    private int[] digitCounts;
+    // For a mapped number: 1 once its digits are known to be valid, -1 once known not 
+    // to be, 0 before the first check.
+    private int validity;
+    // Cached hashCode and canonical form, dropped whenever the digits change.
+    private int hash;
+    private boolean hashed;
+    private LinkedNumber canonical;
+    // Set on a number that is shared and must not change, such as a canonical form.
+    private boolean readOnly;
 
     /**
      * Constructor that creates a LinkedNumber object from a string representation of a number 
      * and its numerical base. This allows for representing the number in any base system.
      *
      * @param num The string representation of the number. Each character in the string should 
-     *            be a valid digit in the given base system.
+     *            be a valid digit in the given base system, apart from an optional leading 
+     *            '-' for a negative number and an optional '.' for the radix point.
      * @param baseNum The base of the number system for this number (EX: 2 for binary, 10 for decimal).
-     * @throws LinkedNumberException if the input string is empty, indicating that no digits were provided.
+     * @throws LinkedNumberException if the input string has no digits, indicating that no digits 
+     *         were provided, or more than one radix point.
      */
     public LinkedNumber(String num, int baseNum) {
+        this((CharSequence) num, baseNum);
+    }
+
+    /**
+     * Constructor that parses a number from any sequence of characters, reading them 
+     * where they are. Shared by the String constructor and the factory methods.
+     *
+     * @param num The characters of the number, as for LinkedNumber(String, int).
+     * @param baseNum The base of the number system for this number.
+     * @throws LinkedNumberException if there are no digits or more than one radix point.
+     */
+    private LinkedNumber(CharSequence num, int baseNum) {
         this.base = baseNum;
+        int start = num.length() != 0 && num.charAt(0) == '-' ? 1 : 0;
+        int point = -1;
+        for (int i = start; i < num.length(); i++) {
+            if (num.charAt(i) == '.') {
+                if (point >= 0) {
+                    throw new LinkedNumberException("more than one radix point");
+                }
+                point = i;
+            }
+        }
         // Exception.
-        if (num.isEmpty()) {
+        int numDigits = num.length() - start - (point >= 0 ? 1 : 0);
+        if (numDigits == 0) {
             throw new LinkedNumberException("no digits given");
         }
-        // Converting the string into a char array.
-        for (char c : num.toCharArray()) {
-            addDigitToEnd(new Digit(c));
+        scale = point >= 0 ? num.length() - point - 1 : 0;
+        digits = new PackedDigitStore(numDigits);
+        digitCounts = new int[NOT_A_DIGIT + 1];
+        // Adding each character of the string as a digit.
+        for (int i = start; i < num.length(); i++) {
+            char c = num.charAt(i);
+            if (i == point) {
+                continue;
+            }
+            makeRoomFor(c);
+            digits.addLast(c);
+            digitCounts[slotOf(c)]++;
+        }
+        // "-0" is plain zero.
+        withSign(start == 1);
+    }
+
+    /**
+     * Creates a LinkedNumber from any sequence of characters, such as a StringBuilder or a 
+     * CharBuffer, reading the characters in place without copying them to a String first.
+     *
+     * @param num The characters of the number, as for LinkedNumber(String, int).
+     * @param baseNum The base of the number system for this number.
+     * @return The new LinkedNumber.
+     * @throws LinkedNumberException if there are no digits or more than one radix point.
+     */
+    public static LinkedNumber valueOf(CharSequence num, int baseNum) {
+        return new LinkedNumber(num, baseNum);
+    }
+
+    /**
+     * Creates a LinkedNumber from ASCII characters held in a slice of a byte array. Each 
+     * byte is read as one character straight into the digits, with no String or char[] 
+     * in between.
+     *
+     * @param bytes The array holding the characters.
+     * @param offset The index of the first character.
+     * @param length The number of characters.
+     * @param baseNum The base of the number system for this number.
+     * @return The new LinkedNumber.
+     * @throws LinkedNumberException if there are no digits or more than one radix point.
+     * @throws IndexOutOfBoundsException if the slice does not fit in the array.
+     */
+    public static LinkedNumber valueOf(byte[] bytes, int offset, int length, int baseNum) {
+        return new LinkedNumber(new AsciiCharSequence(bytes, offset, length), baseNum);
+    }
+
+    /**
+     * Creates a LinkedNumber from the ASCII characters between the position and the limit 
+     * of a buffer. The bytes are read in place, heap or direct, and the position of the 
+     * buffer is left where it was.
+     *
+     * @param buffer The buffer holding the characters.
+     * @param baseNum The base of the number system for this number.
+     * @return The new LinkedNumber.
+     * @throws LinkedNumberException if there are no digits or more than one radix point.
+     */
+    public static LinkedNumber valueOf(ByteBuffer buffer, int baseNum) {
+        return new LinkedNumber(new AsciiCharSequence(buffer), baseNum);
+    }
+
+    /**
+     * Reads a LinkedNumber from a stream of ASCII characters, such as a file of digits too 
+     * large to hold as a String. The stream is read through a fixed buffer of 8 KB and 
+     * each character is checked against the base and appended to the rear of the digits 
+     * as soon as it arrives, so memory holds little more than the packed digits. The 
+     * syntax is that of LinkedNumber(String, int); line breaks may follow the number. The 
+     * stream is read to its end but not closed.
+     *
+     * @param in The stream to read.
+     * @param baseNum The base of the number, between 2 and 16.
+     * @return The new LinkedNumber.
+     * @throws IOException if reading the stream fails.
+     * @throws LinkedNumberException if the base is not between 2 and 16, there are no 
+     *         digits, or a character is out of place or not a digit of the base; the 
+     *         message gives its position in the stream.
+     */
+    public static LinkedNumber read(InputStream in, int baseNum) throws IOException {
+        StreamParser parser = new StreamParser(baseNum);
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            for (int i = 0; i < n; i++) {
+                parser.accept(buffer[i]);
+            }
+        }
+        return parser.finish();
+    }
+
+    /**
+     * Reads a LinkedNumber from a channel of ASCII characters in the same way as 
+     * read(InputStream, int), through a fixed buffer of 8 KB. The channel is read to its 
+     * end but not closed.
+     *
+     * @param channel The channel to read, in blocking mode.
+     * @param baseNum The base of the number, between 2 and 16.
+     * @return The new LinkedNumber.
+     * @throws IOException if reading the channel fails.
+     * @throws LinkedNumberException if the base is not between 2 and 16, there are no 
+     *         digits, or a character is out of place or not a digit of the base; the 
+     *         message gives its position in the channel.
+     */
+    public static LinkedNumber read(ReadableByteChannel channel, int baseNum) throws IOException {
+        StreamParser parser = new StreamParser(baseNum);
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                parser.accept(buffer.get());
+            }
+            buffer.clear();
+        }
+        return parser.finish();
+    }
+
+    /**
+     * Opens a file of ASCII digits as a read-only LinkedNumber without reading it into 
+     * the heap. The file is memory-mapped and the digits are read straight from the 
+     * mapping, so it can be far larger than the heap. An optional leading '-' and line 
+     * breaks at the end are allowed; a radix point is not. Every method that only reads 
+     * the digits works, and the scans in isValidNumber, equals and power-of-two convert 
+     * walk the file from front to rear so that the read-ahead of the operating system 
+     * keeps up. Methods that change the number throw an exception, setPositionalIndex 
+     * included, since it would copy the whole file onto the heap.
+     *
+     * @param file The file to map.
+     * @param baseNum The base of the number system for this number.
+     * @return The new read-only LinkedNumber.
+     * @throws IOException if the file cannot be read or mapped.
+     * @throws LinkedNumberException if the file has no digits or more than 
+     *         Integer.MAX_VALUE of them.
+     */
+    public static LinkedNumber map(Path file, int baseNum) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long start = 0;
+            long end = channel.size();
+            ByteBuffer one = ByteBuffer.allocate(1);
+            if (end > 0 && readByte(channel, one, 0) == '-') {
+                start = 1;
+            }
+            // Drop the line breaks at the end of the file.
+            while (end > start) {
+                int last = readByte(channel, one, end - 1);
+                if (last != '\n' && last != '\r') {
+                    break;
+                }
+                end--;
+            }
+            if (end == start) {
+                throw new LinkedNumberException("no digits given");
+            }
+            if (end - start > Integer.MAX_VALUE) {
+                throw new LinkedNumberException("too many digits");
+            }
+            LinkedNumber number = new LinkedNumber(baseNum, 0);
+            number.digits = new MappedDigitStore(channel, start, (int) (end - start));
+            // Counting every digit up front would read the whole file; isValidNumber 
+            // scans it with the validator instead.
+            number.digitCounts = null;
+            number.readOnly = true;
+            return number.withSign(start == 1);
+        }
+    }
+
+    private static int readByte(FileChannel channel, ByteBuffer one, long position) throws IOException {
+        one.clear();
+        channel.read(one, position);
+        return one.get(0);
+    }
+
+    /**
+     * Builds a LinkedNumber one character at a time, checking each as it comes.
+     */
+    private static final class StreamParser {
+        private final LinkedNumber number;
+        // The index of the next character in the stream.
+        private long position;
+        private boolean point;
+        // Set by the first line break, after which only line breaks may follow.
+        private boolean ended;
+
+        private StreamParser(int baseNum) {
+            if (baseNum < 2 || baseNum > 16) {
+                throw new LinkedNumberException("invalid base");
+            }
+            number = new LinkedNumber(baseNum, READ_BUFFER_SIZE);
+        }
+
+        /**
+         * Takes the next character of the stream.
+         *
+         * @param b The character, as an ASCII byte.
+         * @throws LinkedNumberException if the character does not belong there.
+         */
+        private void accept(byte b) {
+            char c = (char) (b & 0xFF);
+            if (c == '\n' || c == '\r') {
+                ended = true;
+            } else if (ended) {
+                throw invalid(c);
+            } else if (c == '-' && position == 0) {
+                number.negative = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                int value = Digit.valueOf(c);
+                if (value < 0 || value >= number.base) {
+                    throw invalid(c);
+                }
+                number.appendDigit(c);
+                if (point) {
+                    number.scale++;
+                }
+            }
+            position++;
+        }
+
+        private LinkedNumberException invalid(char c) {
+            return new LinkedNumberException("invalid character '" + c + "' at position " + position);
+        }
+
+        /**
+         * Ends the stream.
+         *
+         * @return The number read.
+         * @throws LinkedNumberException if no digits were read.
+         */
+        private LinkedNumber finish() {
+            if (number.digits.size() == 0) {
+                throw new LinkedNumberException("no digits given");
+            }
+            return number.withSign(number.negative);
         }
     }
 
     /**
      * Constructor that takes an integer and creates a LinkedNumber object 
-     * representing the same integer in base 10.
-     * 
+     * representing the same integer in base 10. Negative integers keep their sign.
+     *
      * @param num The integer to convert into a LinkedNumber.
      */
     public LinkedNumber(int num) {
         this(String.valueOf(num), 10);
     }
-    
+
+    /**
+     * Constructor that creates an empty LinkedNumber in the given base. Used internally 
+     * to build results digit by digit.
+     *
+     * @param baseNum The base of the number system for this number.
+     * @param capacity The number of digits the result is expected to hold.
+     */
+    private LinkedNumber(int baseNum, int capacity) {
+        this.base = baseNum;
+        this.digits = new PackedDigitStore(capacity);
+        this.digitCounts = new int[NOT_A_DIGIT + 1];
+    }
+
+    /**
+     * Makes sure the digit store can hold a character. The packed store only holds the 
+     * characters 0-9 and A-F; any other character moves the digits to an unrolled list.
+     *
+     * @param symbol The character about to be stored.
+     */
+    private void makeRoomFor(char symbol) {
+        if (!digits.accepts(symbol)) {
+            moveDigitsTo(new UnrolledDigitList());
+        }
+    }
+
+    /**
+     * Copies every digit into another store, which then replaces the current one.
+     *
+     * @param target The empty store to move the digits to.
+     */
+    private void moveDigitsTo(DigitStore target) {
+        for (int i = 0; i < digits.size(); i++) {
+            target.addLast(digits.charAt(i));
+        }
+        digits = target;
+    }
+
     /**
-     * Adds a digit to the end of the linked list representing the number. If the list is empty, 
-     * the new digit becomes both the front and rear of the list. Otherwise, it is added 
-     * after the current rear and becomes the new rear.
+     * Turns the positional index on or off. With the index on, the digits are kept in a 
+     * size-augmented balanced tree, so addDigit, removeDigit and getDigit take O(log n) 
+     * time at any position instead of O(n). It costs a tree node per digit, so it is best 
+     * kept for numbers that are edited heavily. getFront and getRear keep working either way.
      *
-     * @param digit The digit to be added to the end of the linked list.
+     * @param enabled True to build the index, false to go back to the compact layout.
      */
-    private void addDigitToEnd(Digit digit) {
-    	// Create a new node for the digit.
-    	DLNode<Digit> newNode = new DLNode<>(digit);
-    	// If the list is currently empty, make it both front and rear to this new node.
-    	if (front == null) {
-            front = rear = newNode;
+    public void setPositionalIndex(boolean enabled) {
+        if (enabled == hasPositionalIndex()) {
+            return;
+        }
+        checkWritable();
+        if (enabled) {
+            moveDigitsTo(new IndexedDigitStore());
         } else {
-        	// If the list is not empty, append the new node to the end of the list.
-            rear.setNext(newNode);
-            newNode.setPrev(rear);
-            rear = newNode;
+            DigitStore indexed = digits;
+            digits = new PackedDigitStore(indexed.size());
+            for (int i = 0; i < indexed.size(); i++) {
+                char c = indexed.charAt(i);
+                makeRoomFor(c);
+                digits.addLast(c);
+            }
         }
     }
-    
+
+    /**
+     * Checks whether the positional index is turned on.
+     *
+     * @return True if the digits are kept in the positional index.
+     */
+    public boolean hasPositionalIndex() {
+        return digits instanceof IndexedDigitStore;
+    }
+
     /**
      * Checks if the number represented by the linked list is valid in its specified base. 
      * A number is considered valid if all digits are within the range of 0 to base - 1. 
-     * EX: in base 10, valid digits are 0 through 9. This goes 
-     * through each digit in the list and verifies its validity.
+     * EX: in base 10, valid digits are 0 through 9. The number keeps a count of its 
+     * digits of each value and of the symbols that are not digits, kept up to date by 
+     * every change to the digits, so this only looks at the counts from the highest 
+     * value down to the base and takes constant time. A mapped number is not counted; 
+     * its first check scans the file eight digits at a time and the answer is kept.
      *
      * @return returns true if the number is valid within its base, meaning all digits are 
      *         within the correct range. Returns false if any digit is invalid, 
      *         such as being negative or equal to or greater than the base.
+     * @see #indexOfInvalidDigit()
      */
     public boolean isValidNumber() {
-    	// First digit in the list.
-    	DLNode<Digit> currentNode = front;
-        while (currentNode != null) {
-            Digit currentDigit = currentNode.getElement();
-            int digitValue = currentDigit.getValue();
-         // Check if the digit's value is outside the valid range for the base.
-            if (digitValue == -1 || digitValue >= base) {
-                // If false return false.
-            	return false;
-            }
-            // Check next digit.
-            currentNode = currentNode.getNext();
-        }
-        // Valid, return true.
+        if (digitCounts == null) {
+            if (validity == 0) {
+                validity = digits.indexOfInvalid(base) < 0 ? 1 : -1;
+            }
+            return validity > 0;
+        }
+        if (digitCounts[NOT_A_DIGIT] != 0) {
+            return false;
+        }
+        for (int value = 15; value >= Math.max(base, 0); value--) {
+            if (digitCounts[value] != 0) {
+                return false;
+            }
+        }
         return true;
     }
 
+    /**
+     * Returns the slot of digitCounts that counts a symbol.
+     *
+     * @param symbol The symbol.
+     * @return The value of the digit, or NOT_A_DIGIT.
+     */
+    private static int slotOf(char symbol) {
+        int value = Digit.valueOf(symbol);
+        return value < 0 ? NOT_A_DIGIT : value;
+    }
+
+    /**
+     * Records that symbols were added to or removed from the digits.
+     *
+     * @param symbol The symbol.
+     * @param count The number added, or minus the number removed.
+     */
+    private void counted(char symbol, int count) {
+        if (digitCounts != null) {
+            digitCounts[slotOf(symbol)] += count;
+        }
+    }
+
+    /**
+     * Adds a digit at the rear, keeping the counts up to date.
+     *
+     * @param symbol The digit.
+     */
+    private void appendDigit(char symbol) {
+        digits.addLast(symbol);
+        counted(symbol, 1);
+    }
+
+    /**
+     * Replaces the digit at a position, keeping the counts up to date.
+     *
+     * @param index The position from the front.
+     * @param symbol The new digit.
+     */
+    private void setDigit(int index, char symbol) {
+        if (digitCounts != null) {
+            digitCounts[slotOf(digits.charAt(index))]--;
+            digitCounts[slotOf(symbol)]++;
+        }
+        digits.set(index, symbol);
+    }
+
+    /**
+     * Adds zeros in front of the digits, keeping the counts up to date.
+     *
+     * @param count The number of zeros.
+     */
+    private void insertLeadingZeros(int count) {
+        digits.insertLeadingZeros(count);
+        counted('0', count);
+    }
+
+    /**
+     * Finds the first digit that is not valid in the base of this number. Packed and 
+     * memory-mapped digits are checked a word at a time, every byte lane of the word 
+     * against the range of the base at once; other layouts are checked digit by digit.
+     *
+     * @return The position from the front of the first invalid digit, or -1 if the 
+     *         number is valid.
+     */
+    public int indexOfInvalidDigit() {
+        return isValidNumber() ? -1 : digits.indexOfInvalid(base);
+    }
+
+    /**
+     * Finds the first byte of raw ASCII input that is not a digit of a base, checking 
+     * eight bytes at a time. Useful to reject input before it is parsed; signs and radix 
+     * points count as invalid.
+     *
+     * @param bytes The array holding the characters.
+     * @param offset The index of the first character.
+     * @param length The number of characters.
+     * @param baseNum The base to check against.
+     * @return The position of the first invalid byte counted from offset, or -1 if every 
+     *         byte is a digit of the base.
+     * @throws IndexOutOfBoundsException if the slice does not fit in the array.
+     */
+    public static int indexOfInvalidDigit(byte[] bytes, int offset, int length, int baseNum) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length);
+        }
+        int bad = DigitValidator.indexOfInvalid(bytes, offset, offset + length, baseNum);
+        return bad < 0 ? -1 : bad - offset;
+    }
+
     /**
      * Retrieves the base of the number system.
      * The base determines the numerical system (EX: binary and decimal) of the number 
@@ -103,193 +565,994 @@ public class LinkedNumber {
     }
 
     /**
-     * Retrieves the first node of the linked list representing the number.
+     * Retrieves the first node of the linked list representing the number. The node is a
+     * read-only view; it stops being valid once digits are added or removed.
      *
      * @return The first node of the linked list.
      */
     public DLNode<Digit> getFront() {
-        return front;
+        return digits.getFirstNode();
     }
 
     /**
-     * Retrieves the last node of the linked list representing the number.
+     * Retrieves the last node of the linked list representing the number. The node is a
+     * read-only view; it stops being valid once digits are added or removed.
      *
      * @return The last node of the linked list.
      */
     public DLNode<Digit> getRear() {
-        return rear;
+        return digits.getLastNode();
+    }
+
+    /**
+     * Returns a cursor in front of the first digit. A cursor is one object that moves 
+     * along the digits, so it walks numbers of any length, including memory-mapped ones, 
+     * without creating a node per digit.
+     *
+     * @return A cursor whose next digit is the first one.
+     */
+    public DigitCursor cursor() {
+        return new DigitCursor(digits, 0);
+    }
+
+    /**
+     * Returns a cursor behind the last digit, for walking the number from the rear with 
+     * previous.
+     *
+     * @return A cursor whose previous digit is the last one.
+     */
+    public DigitCursor cursorAtRear() {
+        return new DigitCursor(digits, digits.size());
     }
-    
+
     /**
-     * Calculates and returns the total number of digits in the linked list representing 
-     * the number. This method iterates through the entire list, counting each node until 
-     * it reaches the end, to determine the number's length.
+     * Returns the total number of digits in the linked list representing the number.
+     * The list keeps its own count, so this takes constant time.
      *
      * @return The total number of digits in the linked list, which corresponds to the 
      *         length of the list.
      */
     public int getNumDigits() {
-        int count = 0;
-        // Front of the list.
-        DLNode<Digit> currentNode = front;
-        // While it is not an empty digit (the end).
-        while (currentNode != null) {
-            count++;
-            // Next node.
-            currentNode = currentNode.getNext();
-        }
         // The total length of the list. EX: "ABCD" = 4.
-        return count;
+        return digits.size();
+    }
+
+    /**
+     * Returns the number of digits after the radix point. These are the last digits of 
+     * the list, so getDigit(0) is the last fraction digit when there is one.
+     *
+     * @return The number of fraction digits; 0 for a whole number.
+     */
+    public int getFractionDigits() {
+        return scale;
+    }
+
+    /**
+     * Retrieves the digit at a specified position from the rear, where 0 is the least 
+     * significant digit.
+     *
+     * @param position The position from the rear of the digit.
+     * @return The digit at that position.
+     * @throws LinkedNumberException if the specified position is invalid, i.e., less than 0 
+     *         or greater than or equal to the number of digits in the number.
+     */
+    public Digit getDigit(int position) {
+        int numDigits = getNumDigits();
+        // Check if it is valid.
+        if (position < 0 || position >= numDigits) {
+            throw new LinkedNumberException("invalid position");
+        }
+        return Digit.of(digits.charAt(numDigits - 1 - position));
     }
-    
+
     /**
      * Generates and returns a string representation of the number represented by this 
      * LinkedNumber instance. This allows for the number to be presented in a 
      * readable format.
      *
-     * @return A string that represents the number in its entirety, composed of the 
-     *         individual digits in order from most to least significant.
+     * @return A string that represents the number in its entirety, composed of a '-' for 
+     *         a negative number followed by the individual digits in order from most to 
+     *         least significant, with a '.' before the fraction digits.
      */
     public String toString() {
-        // String builder constructor.
-    	StringBuilder sb = new StringBuilder();
-    	// Start from the front of the list.
-        DLNode<Digit> currentNode = front;
-        // Go through each node till an empty digit appears (the end).
-        while (currentNode != null) {
-            // Appending the string.
-        	sb.append(currentNode.getElement().toString());
-            // Next node
-        	currentNode = currentNode.getNext();
+        int length = (int) textLength();
+        // String builder sized for every character.
+    	StringBuilder sb = new StringBuilder(length);
+    	// Appending each character from the front.
+        for (int i = 0; i < length; i++) {
+        	sb.append(textAt(i));
         }
         // Converting the string builder to a string then returning it.
         return sb.toString();
     }
 
+    /**
+     * Writes the characters of toString to an Appendable, a chunk at a time, without 
+     * building the whole string. A Writer is handed whole chunks through 
+     * writeTo(Writer); other targets get each chunk as a CharSequence over the same 
+     * reusable buffer. Nothing is flushed or closed.
+     *
+     * @param out Where to write the number.
+     * @throws IOException if the target fails.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        if (out instanceof Writer) {
+            writeTo((Writer) out);
+            return;
+        }
+        char[] buffer = new char[WRITE_BUFFER_SIZE];
+        CharBuffer chunk = CharBuffer.wrap(buffer);
+        long length = textLength();
+        for (long k = 0; k < length; ) {
+            int n = fillText(k, buffer, length);
+            out.append(chunk, 0, n);
+            k += n;
+        }
+    }
+
+    /**
+     * Writes the characters of toString to a Writer. The digits are read from the front 
+     * into one reusable buffer of 8 K characters, which is written out each time it 
+     * fills, so the whole string never exists at once. The writer is not flushed or 
+     * closed.
+     *
+     * @param out Where to write the number.
+     * @throws IOException if the writer fails.
+     */
+    public void writeTo(Writer out) throws IOException {
+        char[] buffer = new char[WRITE_BUFFER_SIZE];
+        long length = textLength();
+        for (long k = 0; k < length; ) {
+            int n = fillText(k, buffer, length);
+            out.write(buffer, 0, n);
+            k += n;
+        }
+    }
+
+    /**
+     * Writes the characters of toString to a channel as ASCII bytes. The digits are 
+     * encoded from the front straight into one reusable buffer of 8 KB, which is written 
+     * out each time it fills. The channel is not closed.
+     *
+     * @param out Where to write the number.
+     * @throws IOException if the channel fails.
+     */
+    public void writeTo(WritableByteChannel out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        byte[] bytes = buffer.array();
+        long length = textLength();
+        for (long k = 0; k < length; ) {
+            int n = (int) Math.min(bytes.length, length - k);
+            for (int i = 0; i < n; i++) {
+                bytes[i] = (byte) textAt(k + i);
+            }
+            buffer.clear().limit(n);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            k += n;
+        }
+    }
+
+    /**
+     * Copies the next chunk of the characters of toString into a buffer.
+     *
+     * @param from The index of the first character to copy.
+     * @param buffer The buffer to fill from its start.
+     * @param length The total number of characters.
+     * @return The number of characters copied.
+     */
+    private int fillText(long from, char[] buffer, long length) {
+        int n = (int) Math.min(buffer.length, length - from);
+        for (int i = 0; i < n; i++) {
+            buffer[i] = textAt(from + i);
+        }
+        return n;
+    }
+
+    /**
+     * Returns the number of characters in toString: the sign, the digits in front of the 
+     * point (at least one), and the point followed by the fraction digits.
+     *
+     * @return The length of the text of this number.
+     */
+    private long textLength() {
+        long whole = Math.max(1, digits.size() - scale);
+        return (negative ? 1 : 0) + whole + (scale > 0 ? 1 + scale : 0);
+    }
+
+    /**
+     * Returns one character of toString. An empty whole part reads as 0, so a number 
+     * whose digits have all been removed reads as 0.
+     *
+     * @param k The index of the character.
+     * @return The character.
+     */
+    private char textAt(long k) {
+        if (negative) {
+            if (k == 0) {
+                return '-';
+            }
+            k--;
+        }
+        int whole = digits.size() - scale;
+        if (whole <= 0) {
+            if (k == 0) {
+                return '0';
+            }
+            k--;
+        } else if (k < whole) {
+            return digits.charAt((int) k);
+        } else {
+            k -= whole;
+        }
+        if (k == 0) {
+            return '.';
+        }
+        k--;
+        return digits.charAt((int) k + Math.max(0, whole));
+    }
+
     /**
      * Compares this LinkedNumber object with another for equality. Two LinkedNumber 
      * objects are considered equal if they represent the same number in the same base, 
-     * which means they have the same sequence of digits from front to rear and are of 
-     * the same base.
+     * which means they are of the same base and toString gives the same text for both: 
+     * the same sign, the same sequence of digits from front to rear and the radix point 
+     * in the same place. A number whose digits have all been removed reads as 0 and so 
+     * equals "0", and ".5" equals "0.5".
      *
      * @param other The other LinkedNumber object to compare with this one.
      * @return Return true if both LinkedNumber objects have the same base and 
-     *         identical sequences of digits, indicating they represent the same number. 
+     *         identical text, indicating they represent the same number. 
      *         Otherwise, return false.
      */
     public boolean equals(LinkedNumber other) {
-        // Check if bases are equal.
+        // Check if bases and lengths are equal.
     	if (this.base != other.base) return false;
-        // Comparing from the front
-    	DLNode<Digit> thisCurrent = this.front;
-        DLNode<Digit> otherCurrent = other.front;
-        // Continue till there are no more digits to compare.
-        while (thisCurrent != null && otherCurrent != null) {
-            // If corresponding digits are not equal return false
-        	if (!thisCurrent.getElement().equals(otherCurrent.getElement())) {
+    	long length = textLength();
+    	if (length != other.textLength()) return false;
+        // Comparing from the front.
+        for (long k = 0; k < length; k++) {
+            // If corresponding characters are not equal return false
+        	if (textAt(k) != other.textAt(k)) {
                 return false;
             }
-        	// Move to next node
-            thisCurrent = thisCurrent.getNext();
-            otherCurrent = otherCurrent.getNext();
         }
-        // if they end at the same time, and completed above they are equal.
-        return thisCurrent == null && otherCurrent == null;
+        // Every character matched, they are equal.
+        return true;
     }
 
     /**
-     * Converts the current LinkedNumber to a new base. This method first verifies the 
-     * current number in its original base, then converts it to an intermediate decimal
-     * representation, and finally constructs a new LinkedNumber in the specified new base.
+     * Compares this LinkedNumber with another object for equality. The object is equal to 
+     * this number only if it is a LinkedNumber with the same base and the same sequence 
+     * of digits, as in equals(LinkedNumber). Numbers that only differ in leading zeros or 
+     * in base are not equal even though compareTo finds them to have the same value.
      *
-     * @param newBase The base to which the number should be converted. Must be a 
-     *                positive integer greater than 1.
-     * @return A new LinkedNumber instance representing the same numerical value as 
-     *         this LinkedNumber, but in the specified new base.
-     * @throws LinkedNumberException If the current number is not valid in its original 
-     *                               base (e.g., contains digits not allowed in its base).
+     * @param obj The object to compare with this one.
+     * @return True if the object is a LinkedNumber with the same base and digits.
      */
-    public LinkedNumber convert(int newBase) {
-    	// Checking if current number is valid.
-    	if (!isValidNumber()) {
-    		throw new LinkedNumberException("cannot convert invalid number");
-    	}
-    	
-    	// Convert the current number to decimal form.
-    	int decimalValue = toDecimal();
-    	    
-    	// convert from decimal to new base.
-    	return fromDecimal(decimalValue, newBase);
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LinkedNumber)) {
+            return false;
+        }
+        LinkedNumber other = (LinkedNumber) obj;
+        if (hashed && other.hashed && hash != other.hash) {
+            return false;
+        }
+        return equals(other);
     }
-    
+
     /**
-     * Converts the number represented by this LinkedNumber from its current base to its 
-     * decimal (base 10) equivalent. 
+     * Returns a hash code computed from the base and the text of toString, consistent 
+     * with equals. The code is computed once and kept until 
+     * the digits are changed by addDigit, removeDigit, negate, addInPlace or 
+     * subtractInPlace.
+     * <p>
+     * Note: compareTo orders numbers by value, so it is not consistent with equals.
      *
-     * @return The decimal equivalent of the number represented by this LinkedNumber.
+     * @return The hash code of this number.
      */
-    private int toDecimal() {
-    	int decimalValue = 0;
-    	// Start from front.
-    	DLNode<Digit> current = front;
-    	// Get total number of digits and find the exponent for the most significant digit.
-    	int numDigits = getNumDigits();
-    	int exponent = numDigits - 1;
-    	// Go through each node till an empty digit appears (the end).
-    	while (current != null) {
-    		// Convert to decimal value.
-    		int digitValue = current.getElement().getValue();
-    		decimalValue += digitValue * Math.pow(base, exponent);
-    		// Continue to next node.
-    		current = current.getNext();
-    		exponent--; 
-    	}
-    	
-    	// Return decimal value.
-    	return decimalValue;
+    @Override
+    public int hashCode() {
+        if (!hashed) {
+            int h = base;
+            long length = textLength();
+            for (long k = 0; k < length; k++) {
+                h = 31 * h + textAt(k);
+            }
+            hash = h;
+            hashed = true;
+        }
+        return hash;
+    }
+
+    /**
+     * Forgets everything cached about the digits. Called after every change to them.
+     */
+    private void digitsChanged() {
+        hashed = false;
+        canonical = null;
     }
 
     /**
-     * Converts a decimal value to a LinkedNumber represented in a specified new base. 
+     * Makes sure this number may be changed.
      *
-     * @param decimalValue The decimal value to be converted into the new base.
-     * @param newBase The base into which the decimal value will be converted. Must be a 
-     *                positive integer greater than 1.
-     * @return A new LinkedNumber instance representing the decimal value in the specified 
-     *         new base. If the decimal value is 0, returns a LinkedNumber representing 0 
-     *         in the new base.
-     */	
-    private LinkedNumber fromDecimal(int decimalValue, int newBase) {
-	    // Special case for 0.
-    	if (decimalValue == 0) {
-	        return new LinkedNumber("0", newBase); 
-	    }
-    	StringBuilder sb = new StringBuilder();
-	    // Convert the decimal number to the new base.
-    	while (decimalValue > 0) {
-	        int remainder = decimalValue % newBase;
-	        char digitChar = remainder >= 10 ? (char) ('A' + (remainder - 10)) : (char) ('0' + remainder);
-	        sb.insert(0, digitChar); 
-	        decimalValue /= newBase;
-	    }
-    	// Return the new LinkedNumber which is now in the desired base.
-	    return new LinkedNumber(sb.toString(), newBase);
-	}
+     * @throws LinkedNumberException if the number is read-only.
+     */
+    private void checkWritable() {
+        if (readOnly) {
+            throw new LinkedNumberException("read-only number");
+        }
+    }
 
     /**
-     * Adds a digit to the linked list representing the number at a specified position from the rear. 
-     * The position is calculated from the rear, with 0 being the immediate next position after the last digit. 
-     * This method handles insertion at the beginning, middle, and end of the list, updating links between nodes as necessary.
+     * Returns the canonical form of this number: its value in base 16 without leading 
+     * zeros. Two valid whole numbers have the same value exactly when their canonical 
+     * forms are equal. A fraction need not end in base 16, so a number with fraction 
+     * digits keeps its own base and only loses its leading zeros and the zeros at the 
+     * end of its fraction. The form is computed once and kept until the digits of this 
+     * number change. The returned number is shared, so it is read-only: addDigit, 
+     * removeDigit, negate, addInPlace, subtractInPlace and setPositionalIndex throw.
      *
-     * @param digit The digit to be added.
-     * @param position The position from the rear where the digit should be added. A position of 0 
-     *                 would add the digit at the end, while a position equal to the number of digits 
-     *                 would place it at the beginning of the number.
-     * @throws LinkedNumberException if the specified position is invalid, i.e., less than 0 or 
-     *         greater than the number of digits in the number.
+     * @return The canonical form of this number.
+     * @throws LinkedNumberException if the number is invalid.
      */
-    public void addDigit(Digit digit, int position) {
-	    // Find total length of list
+    public LinkedNumber canonical() {
+        if (canonical == null) {
+            canonical = scale == 0 ? convert(CANONICAL_BASE) : trimmed();
+            canonical.readOnly = true;
+        }
+        return canonical;
+    }
+
+    /**
+     * Copies this number without leading zeros and without zeros at the end of its 
+     * fraction.
+     *
+     * @return A new LinkedNumber with the same value, base and sign.
+     * @throws LinkedNumberException if the number is invalid.
+     */
+    private LinkedNumber trimmed() {
+        if (!isValidNumber()) {
+            throw new LinkedNumberException("invalid number");
+        }
+        int numDigits = digits.size();
+        int zeros = 0;
+        while (zeros < scale && digits.valueAt(numDigits - 1 - zeros) == 0) {
+            zeros++;
+        }
+        LinkedNumber result = new LinkedNumber(base, numDigits - zeros);
+        for (int i = 0; i < numDigits - zeros; i++) {
+            result.appendDigit(digits.charAt(i));
+        }
+        result.scale = scale - zeros;
+        result.stripLeadingZeros();
+        return result.withSign(negative);
+    }
+
+    /**
+     * Tells whether this LinkedNumber has the same value as another, whatever their bases 
+     * and leading zeros. EX: "FF" in base 16, "255" in base 10 and "0011111111" in base 2 
+     * all have the same value. Numbers of different signs are only equal if both are 
+     * zero. Numbers in the same base, or in bases that are powers of a common root such 
+     * as 2, 8 and 16, are compared digit by digit in that root, reading each digit as a 
+     * fixed group of root digits, so nothing is converted. Other pairs are first told 
+     * apart by their magnitudes and otherwise compared through their cached canonical 
+     * forms, or exactly as fractions when either has fraction digits.
+     *
+     * @param other The number to compare with.
+     * @return True if both numbers have the same value.
+     * @throws LinkedNumberException if either number is invalid.
+     */
+    public boolean valueEquals(LinkedNumber other) {
+        if (!isValidNumber() || !other.isValidNumber()) {
+            throw new LinkedNumberException("invalid number");
+        }
+        if (signum() != other.signum()) {
+            return false;
+        }
+        if (base == other.base) {
+            return compareMagnitude(this, other) == 0;
+        }
+        boolean whole = scale == 0 && other.scale == 0;
+        int root = rootBase(base);
+        if (whole && root == rootBase(other.base)) {
+            return rootDigitsEqual(other, root);
+        }
+        double[] bounds = logBounds();
+        double[] otherBounds = other.logBounds();
+        if (bounds[1] < otherBounds[0] || bounds[0] > otherBounds[1]) {
+            return false;
+        }
+        if (!whole) {
+            return compareFractions(this, other) == 0;
+        }
+        return canonical().equals(other.canonical());
+    }
+
+    /**
+     * Compares this number with one in a power-related base by splitting the digits of 
+     * both, from the rear, into digits of their common root base.
+     *
+     * @param other The other number, in a base that is a power of root.
+     * @param root The common root of both bases.
+     * @return True if both numbers have the same value.
+     */
+    private boolean rootDigitsEqual(LinkedNumber other, int root) {
+        int width = rootWidth(base, root);
+        int otherWidth = rootWidth(other.base, root);
+        int numDigits = digits.size();
+        int otherDigits = other.digits.size();
+        // In long: a long number in base 16 has up to four times as many root digits.
+        long length = Math.max((long) numDigits * width, (long) otherDigits * otherWidth);
+        int value = 0;
+        int otherValue = 0;
+        for (long j = 0; j < length; j++) {
+            // Load the next digit of each number when its root digits run out.
+            if (j % width == 0) {
+                long k = j / width;
+                value = k < numDigits ? digits.valueAt(numDigits - 1 - (int) k) : 0;
+            }
+            if (j % otherWidth == 0) {
+                long k = j / otherWidth;
+                otherValue = k < otherDigits ? other.digits.valueAt(otherDigits - 1 - (int) k) : 0;
+            }
+            if (value % root != otherValue % root) {
+                return false;
+            }
+            value /= root;
+            otherValue /= root;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the smallest base that the given base is a power of. EX: 2 for 8, 3 for 9 
+     * and 10 for 10.
+     *
+     * @param b The base.
+     * @return The root of the base.
+     */
+    private static int rootBase(int b) {
+        for (int r = 2; r < b; r++) {
+            if (rootWidth(b, r) > 0) {
+                return r;
+            }
+        }
+        return b;
+    }
+
+    /**
+     * Returns k such that b = root^k.
+     *
+     * @param b The base.
+     * @param root The candidate root.
+     * @return The exponent, or 0 if b is not a power of root.
+     */
+    private static int rootWidth(int b, int root) {
+        int k = 0;
+        long power = 1;
+        while (power < b) {
+            power *= root;
+            k++;
+        }
+        return power == b ? k : 0;
+    }
+
+    /**
+     * Compares the value of this LinkedNumber with another, which may be written in a 
+     * different base. In the same base, leading zeros are skipped, the significant 
+     * lengths are compared, and only numbers of equal length are scanned from the front. 
+     * In different bases, the length and leading digits of each number bound its 
+     * logarithm; only when the two ranges overlap are the cached canonical forms of both 
+     * compared exactly, so sorting numbers of mixed bases converts each number at most 
+     * once, or, when either has fraction digits, both are compared as exact fractions. 
+     * Signs are looked at first.
+     *
+     * @param other The number to compare with.
+     * @return A negative number, zero or a positive number as this number is less than, 
+     *         equal to or greater than the other.
+     * @throws LinkedNumberException if either number is invalid.
+     */
+    @Override
+    public int compareTo(LinkedNumber other) {
+        if (!isValidNumber() || !other.isValidNumber()) {
+            throw new LinkedNumberException("invalid number");
+        }
+        int sign = signum();
+        int otherSign = other.signum();
+        if (sign != otherSign) {
+            return sign < otherSign ? -1 : 1;
+        }
+        int cmp;
+        if (base == other.base) {
+            cmp = Integer.signum(compareMagnitude(this, other));
+        } else {
+            double[] bounds = logBounds();
+            double[] otherBounds = other.logBounds();
+            if (bounds[1] < otherBounds[0]) {
+                cmp = -1;
+            } else if (bounds[0] > otherBounds[1]) {
+                cmp = 1;
+            } else if (scale != 0 || other.scale != 0) {
+                cmp = compareFractions(this, other);
+            } else {
+                cmp = Integer.signum(compareMagnitude(canonical(), other.canonical()));
+            }
+        }
+        return sign < 0 ? -cmp : cmp;
+    }
+
+    /**
+     * Compares the magnitudes of two numbers in different bases exactly. With a = A / p^s 
+     * and b = B / q^t, where A and B are the digits read as whole numbers, a and b 
+     * compare as A q^t and B p^s do.
+     *
+     * @param a The first number.
+     * @param b The second number.
+     * @return -1, 0 or 1 as the magnitude of a is less than, equal to or greater than 
+     *         that of b.
+     */
+    private static int compareFractions(LinkedNumber a, LinkedNumber b) {
+        int radix = BaseConverter.MAX_LIMB_RADIX;
+        int[] left = LimbMath.multiply(a.toBinaryLimbs(), powerLimbs(b.base, b.scale), radix);
+        int[] right = LimbMath.multiply(b.toBinaryLimbs(), powerLimbs(a.base, a.scale), radix);
+        return Integer.signum(LimbMath.compare(left, right));
+    }
+
+    /**
+     * Raises a base to a power by repeated squaring.
+     *
+     * @param b The base.
+     * @param e The exponent, not negative.
+     * @return b^e as limbs of radix 2^16, least significant first.
+     */
+    private static int[] powerLimbs(int b, int e) {
+        int radix = BaseConverter.MAX_LIMB_RADIX;
+        int[] result = {1};
+        int[] square = {b};
+        for (; e != 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                result = LimbMath.multiply(result, square, radix);
+            }
+            if (e > 1) {
+                square = LimbMath.multiply(square, square, radix);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sign of this number.
+     *
+     * @return -1, 0 or 1 as this number is negative, zero or positive.
+     */
+    public int signum() {
+        if (isZero()) {
+            return 0;
+        }
+        return negative ? -1 : 1;
+    }
+
+    /**
+     * Negates this number in place. Only the sign flag changes, so this takes constant 
+     * time whatever the length of the number. Zero stays zero and is never made negative.
+     */
+    public void negate() {
+        checkWritable();
+        withSign(!negative);
+        digitsChanged();
+    }
+
+    /**
+     * Gives a freshly built result its sign. Zero is never made negative.
+     *
+     * @param negativeResult True if the result should be negative.
+     * @return This number.
+     */
+    private LinkedNumber withSign(boolean negativeResult) {
+        negative = negativeResult && !isZero();
+        return this;
+    }
+
+    /**
+     * Checks whether every digit is zero. The digit counts answer this at once; only a 
+     * mapped number, which keeps no counts, has its digits scanned.
+     *
+     * @return True if the number has no digit other than 0.
+     */
+    private boolean isZero() {
+        if (digitCounts == null) {
+            return significantDigits() == 0;
+        }
+        return digitCounts[0] == digits.size();
+    }
+
+    /**
+     * Bounds the natural logarithm of this number using its significant length and its 
+     * leading digits: a number whose leading digits read as lead, followed by e more 
+     * digits, lies between lead * base^e and (lead + 1) * base^e, with e lowered by the 
+     * number of fraction digits. The bounds are widened slightly to cover rounding.
+     *
+     * @return The lower and upper bound; zero gives negative infinity for both.
+     */
+    private double[] logBounds() {
+        int length = significantDigits();
+        if (length == 0) {
+            return new double[] {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        }
+        int start = digits.size() - length;
+        // Read leading digits while the value stays exact in a double.
+        long lead = 0;
+        int used = 0;
+        while (used < length && lead < (1L << 48)) {
+            lead = lead * base + digits.valueAt(start + used);
+            used++;
+        }
+        double shift = (length - used - scale) * Math.log(base);
+        double slack = 1e-12 * (Math.abs(shift) + 1);
+        return new double[] {Math.log(lead) + shift - slack, Math.log(lead + 1) + shift + slack};
+    }
+
+    /**
+     * Converts the current LinkedNumber to a new base. This method first verifies the 
+     * current number in its original base, then hands its digits to the base converter, 
+     * which carries the value in a multi-word intermediate so that numbers of any length 
+     * convert exactly, and finally constructs a new LinkedNumber in the specified new base. 
+     * A number with fraction digits keeps as many digits after the point as are needed 
+     * for at least the same precision, rounded half to even.
+     *
+     * @param newBase The base to which the number should be converted. Must be 
+     *                between 2 and 16.
+     * @return A new LinkedNumber instance representing the same numerical value as 
+     *         this LinkedNumber, but in the specified new base.
+     * @throws LinkedNumberException If the current number is not valid in its original 
+     *                               base (e.g., contains digits not allowed in its base),
+     *                               or if the new base is not between 2 and 16.
+     */
+    public LinkedNumber convert(int newBase) {
+    	// Checking if current number is valid.
+    	if (!isValidNumber()) {
+    		throw new LinkedNumberException("cannot convert invalid number");
+    	}
+    	// Digits only go up to F.
+    	if (newBase < 2 || newBase > 16) {
+    		throw new LinkedNumberException("invalid base");
+    	}
+    	if (scale != 0) {
+    		// Digits of the new base that carry as much as the old fraction digits.
+    		int places = (int) Math.ceil(scale * Math.log(base) / Math.log(newBase) - 1e-9);
+    		return convert(newBase, places, RoundingMode.HALF_EVEN);
+    	}
+
+    	// Between power-of-two bases each digit is just a group of bits.
+    	if (isPowerOfTwo(base) && isPowerOfTwo(newBase)) {
+    		return regroupBits(newBase).withSign(negative);
+    	}
+
+    	// Convert the digits to the new base.
+    	int[] newDigits = BaseConverter.convert(digitValues(), base, newBase);
+
+    	// Build the new LinkedNumber from the converted digits, keeping the sign.
+    	return fromDigitValues(newDigits, newBase).withSign(negative);
+    }
+
+    /**
+     * Converts the current LinkedNumber to a new base with a fixed number of digits after 
+     * the radix point. The whole part is converted exactly as in convert(int). The 
+     * fraction is converted as a stream: each step multiplies what is left of it by a 
+     * power of the new base and takes the digits that move in front of the point, and 
+     * the steps stop as soon as the requested digits are out, however long the exact 
+     * expansion would be. What is left then decides the rounding. EX: "1A.F3" in base 16 
+     * converts to "26.95" in base 10 with 2 fraction digits and RoundingMode.HALF_UP.
+     *
+     * @param newBase The base to which the number should be converted. Must be 
+     *                between 2 and 16.
+     * @param fractionDigits The number of digits to keep after the radix point.
+     * @param mode How to round away the rest of the fraction. FLOOR and CEILING round 
+     *             towards negative and positive infinity, taking the sign into account.
+     * @return A new LinkedNumber in the new base with exactly fractionDigits digits after 
+     *         the point and no leading zeros in front of it.
+     * @throws LinkedNumberException If the current number is not valid in its original 
+     *                               base, the new base is not between 2 and 16, 
+     *                               fractionDigits is negative, or the mode is 
+     *                               RoundingMode.UNNECESSARY and the result is not exact.
+     */
+    public LinkedNumber convert(int newBase, int fractionDigits, RoundingMode mode) {
+    	if (!isValidNumber()) {
+    		throw new LinkedNumberException("cannot convert invalid number");
+    	}
+    	if (newBase < 2 || newBase > 16) {
+    		throw new LinkedNumberException("invalid base");
+    	}
+    	if (fractionDigits < 0) {
+    		throw new LinkedNumberException("invalid precision");
+    	}
+    	int numDigits = digits.size();
+    	int point = numDigits - scale;
+    	int[] whole = new int[Math.max(1, point)];
+    	int[] fraction = new int[scale];
+    	// Digits missing in front of the point stay zero.
+    	for (int i = 0; i < numDigits; i++) {
+    		if (i < point) {
+    			whole[i] = digitValue(i);
+    		} else {
+    			fraction[i - point] = digitValue(i);
+    		}
+    	}
+    	int[] newWhole = BaseConverter.convert(whole, base, newBase);
+    	int[] newDigits = Arrays.copyOf(newWhole, newWhole.length + fractionDigits);
+    	int[] newFraction = new int[fractionDigits];
+    	int rest = FractionConverter.convert(fraction, base, newBase, newFraction);
+    	System.arraycopy(newFraction, 0, newDigits, newWhole.length, fractionDigits);
+    	if (roundsUp(mode, rest, newDigits[newDigits.length - 1] % 2 != 0)) {
+    		newDigits = increment(newDigits, newBase);
+    	}
+    	LinkedNumber result = fromDigitValues(newDigits, newBase);
+    	result.scale = fractionDigits;
+    	result.stripLeadingZeros();
+    	return result.withSign(negative);
+    }
+
+    /**
+     * Decides whether dropping the rest of a fraction should add one to the last digit 
+     * kept. The digits hold the magnitude, so the sign of this number turns FLOOR and 
+     * CEILING into rounding up or down.
+     *
+     * @param mode The rounding mode.
+     * @param rest How the dropped part compares with half a unit, one of the constants 
+     *             of FractionConverter.
+     * @param odd True if the last digit kept is odd.
+     * @return True if the last digit kept should go up by one.
+     * @throws LinkedNumberException if the mode is RoundingMode.UNNECESSARY and the rest 
+     *         is not zero.
+     */
+    private boolean roundsUp(RoundingMode mode, int rest, boolean odd) {
+    	if (rest == FractionConverter.EXACT) {
+    		return false;
+    	}
+    	switch (mode) {
+    		case UP:
+    			return true;
+    		case DOWN:
+    			return false;
+    		case CEILING:
+    			return !negative;
+    		case FLOOR:
+    			return negative;
+    		case HALF_UP:
+    			return rest != FractionConverter.BELOW_HALF;
+    		case HALF_DOWN:
+    			return rest == FractionConverter.ABOVE_HALF;
+    		case HALF_EVEN:
+    			return rest == FractionConverter.ABOVE_HALF || (rest == FractionConverter.HALF && odd);
+    		default:
+    			throw new LinkedNumberException("rounding necessary");
+    	}
+    }
+
+    /**
+     * Adds one to the last of a sequence of digit values.
+     *
+     * @param values The digit values, most significant first; changed in place.
+     * @param b The base of the digits.
+     * @return The values, or a copy one digit longer if the carry went past the front.
+     */
+    private static int[] increment(int[] values, int b) {
+    	for (int i = values.length - 1; i >= 0; i--) {
+    		if (++values[i] < b) {
+    			return values;
+    		}
+    		values[i] = 0;
+    	}
+    	int[] longer = new int[values.length + 1];
+    	longer[0] = 1;
+    	return longer;
+    }
+
+    /**
+     * Checks whether a base is a power of two (EX: 2, 4, 8 and 16).
+     *
+     * @param b The base to check.
+     * @return True if the base is a power of two.
+     */
+    private static boolean isPowerOfTwo(int b) {
+    	return (b & (b - 1)) == 0;
+    }
+
+    /**
+     * Converts this number to another power-of-two base by regrouping its bits. The length
+     * of the result is worked out from the number of significant bits, which also tells 
+     * how many bits the leading output digit gets. The digits are then read once from the 
+     * front to the rear; the bits of each are pushed into a small buffer, and every time 
+     * the buffer holds enough bits for an output digit that digit is added to the rear of 
+     * the result. Only a single int of extra state is needed, so this works for numbers 
+     * of any length in linear time, and the digits are read in storage order.
+     *
+     * @param newBase The power-of-two base to convert to.
+     * @return A new LinkedNumber instance representing the same value in the new base, 
+     *         without leading zeros.
+     */
+    private LinkedNumber regroupBits(int newBase) {
+    	int inBits = Integer.numberOfTrailingZeros(base);
+    	int outBits = Integer.numberOfTrailingZeros(newBase);
+    	int mask = newBase - 1;
+    	int numDigits = digits.size();
+    	if (numDigits == 0) {
+    		// Every digit has been removed, which reads as zero.
+    		return fromDigitValues(new int[1], newBase);
+    	}
+    	// Skip leading zeros to find the number of significant bits.
+    	int first = 0;
+    	while (first < numDigits - 1 && digitValue(first) == 0) {
+    		first++;
+    	}
+    	long bits = (long) (numDigits - first - 1) * inBits
+    			+ (32 - Integer.numberOfLeadingZeros(digitValue(first)));
+    	int resultDigits = (int) Math.max(1, (bits + outBits - 1) / outBits);
+    	LinkedNumber result = new LinkedNumber(newBase, resultDigits);
+    	// The leading output digit takes the bits left over at the top, together with the 
+    	// zero bits at the top of the first input digit.
+    	long zeroBits = (long) (numDigits - first) * inBits - bits;
+    	int needed = (int) (bits - (long) (resultDigits - 1) * outBits + zeroBits);
+    	// Bits waiting to be written, most significant first.
+    	int buffer = 0;
+    	int bufferedBits = 0;
+    	// Start from the most significant digit.
+    	for (int i = first; i < numDigits; i++) {
+    		buffer = (buffer << inBits) | digitValue(i);
+    		bufferedBits += inBits;
+    		// Emit every complete output digit.
+    		while (bufferedBits >= needed) {
+    			bufferedBits -= needed;
+    			result.appendDigit(symbolFor((buffer >>> bufferedBits) & mask));
+    			buffer &= (1 << bufferedBits) - 1;
+    			needed = outBits;
+    		}
+    	}
+    	return result;
+    }
+
+    /**
+     * Returns the value of the digit at a position counted from the front.
+     *
+     * @param index The position from the front.
+     * @return The value of the digit, or -1 if it is not a digit.
+     */
+    private int digitValue(int index) {
+    	return digits.valueAt(index);
+    }
+
+    /**
+     * Collects the values of the digits of this number into an array, from the most 
+     * significant to the least significant digit.
+     *
+     * @return The digit values in order from front to rear.
+     */
+    private int[] digitValues() {
+    	int[] values = new int[digits.size()];
+    	// Go through each digit from the front.
+    	for (int i = 0; i < values.length; i++) {
+    		values[i] = digitValue(i);
+    	}
+    	return values;
+    }
+
+    /**
+     * Builds a LinkedNumber from an array of digit values.
+     *
+     * @param values The digit values, most significant first. Each must be between 0 and 
+     *               newBase - 1.
+     * @param newBase The base of the number.
+     * @return A new LinkedNumber instance holding the given digits in the given base.
+     */
+    private static LinkedNumber fromDigitValues(int[] values, int newBase) {
+    	LinkedNumber result = new LinkedNumber(newBase, values.length);
+    	for (int value : values) {
+    		result.appendDigit(symbolFor(value));
+    	}
+    	return result;
+    }
+
+    /**
+     * Packs the digits of this number into limbs of radix BaseConverter.limbRadix(base), 
+     * each limb holding a fixed group of digits counted from the rear.
+     *
+     * @return The value as limbs, least significant first, without high zero limbs.
+     */
+    private int[] toLimbs() {
+        int perLimb = BaseConverter.digitsPerLimb(base);
+        int numDigits = digits.size();
+        int[] limbs = new int[(numDigits + perLimb - 1) / perLimb];
+        for (int j = 0; j < limbs.length; j++) {
+            int end = numDigits - j * perLimb;
+            int limb = 0;
+            for (int i = Math.max(0, end - perLimb); i < end; i++) {
+                limb = limb * base + digits.valueAt(i);
+            }
+            limbs[j] = limb;
+        }
+        return LimbMath.trim(limbs);
+    }
+
+    /**
+     * Builds a LinkedNumber from limbs of radix BaseConverter.limbRadix(newBase).
+     *
+     * @param limbs The value as limbs, least significant first.
+     * @param newBase The base of the number.
+     * @return A new LinkedNumber instance holding the value, without leading zeros.
+     */
+    private static LinkedNumber fromLimbs(int[] limbs, int newBase) {
+        return fromDigitValues(BaseConverter.fromLimbs(limbs, newBase), newBase);
+    }
+
+    /**
+     * Packs the value of this number into limbs of radix 2^16, whatever its base.
+     *
+     * @return The value as limbs, least significant first, without high zero limbs.
+     */
+    private int[] toBinaryLimbs() {
+        if (BaseConverter.limbRadix(base) == BaseConverter.MAX_LIMB_RADIX) {
+            return toLimbs();
+        }
+        int[] values = BaseConverter.convert(digitValues(), base, BaseConverter.MAX_LIMB_RADIX);
+        return LimbMath.trim(reverse(values));
+    }
+
+    /**
+     * Builds a LinkedNumber from limbs of radix 2^16.
+     *
+     * @param limbs The value as limbs, least significant first.
+     * @param newBase The base of the number.
+     * @return A new LinkedNumber instance holding the value, without leading zeros.
+     */
+    private static LinkedNumber fromBinaryLimbs(int[] limbs, int newBase) {
+        if (BaseConverter.limbRadix(newBase) == BaseConverter.MAX_LIMB_RADIX) {
+            return fromLimbs(limbs, newBase);
+        }
+        int[] values = BaseConverter.convert(reverse(limbs), BaseConverter.MAX_LIMB_RADIX, newBase);
+        return fromDigitValues(values, newBase);
+    }
+
+    private static int[] reverse(int[] values) {
+        int[] reversed = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            reversed[values.length - 1 - i] = values[i];
+        }
+        return reversed;
+    }
+
+    /**
+     * Returns the character used to write a digit value. EX: 7 is '7' and 11 is 'B'.
+     *
+     * @param value The value of the digit, between 0 and 15.
+     * @return The character representing the digit.
+     */
+    private static char symbolFor(int value) {
+    	return value >= 10 ? (char) ('A' + (value - 10)) : (char) ('0' + value);
+    }
+
+    /**
+     * Adds a digit to the linked list representing the number at a specified position from the rear. 
+     * The position is calculated from the rear, with 0 being the immediate next position after the last digit. 
+     * This method handles insertion at the beginning, middle, and end of the list. 
+     * Positions count the fraction digits too; a digit added among them becomes one more 
+     * fraction digit, so the radix point stays in front of the same whole digits.
+     *
+     * @param digit The digit to be added.
+     * @param position The position from the rear where the digit should be added. A position of 0 
+     *                 would add the digit at the end, while a position equal to the number of digits 
+     *                 would place it at the beginning of the number.
+     * @throws LinkedNumberException if the specified position is invalid, i.e., less than 0 or 
+     *         greater than the number of digits in the number.
+     */
+    public void addDigit(Digit digit, int position) {
+	    checkWritable();
+	    // Find total length of list
     	int numDigits = getNumDigits();
     	// Calculate equivalent position from the front based on position.
 	    int positionFromFront = numDigits - position;
@@ -298,44 +1561,24 @@ public class LinkedNumber {
 	    if (positionFromFront < 0 || positionFromFront > numDigits) {
 	        throw new LinkedNumberException("invalid position");
 	    }
-	    
-	    // Create new node for the digit.
-	    DLNode<Digit> newNode = new DLNode<>(digit);
-	    // Insert from the front of the list.
-	    if (positionFromFront == 0) {
-	        if (front != null) {
-	            newNode.setNext(front);
-	            front.setPrev(newNode);
-	        }
-	        front = newNode;
-	        if (rear == null) { 
-	            rear = newNode;
-	        }
-	    // Insert from the rear of the list.
-	    } else if (positionFromFront == numDigits) {
-	        rear.setNext(newNode);
-	        newNode.setPrev(rear);
-	        rear = newNode;
-	    } else { 
-	        DLNode<Digit> current = front;
-	        // Go to node after which the new node should be inserted.
-	        for (int i = 1; i < positionFromFront; i++) {
-	            current = current.getNext();
-	        }
-	        // Insert the new node in correct position.
-	        newNode.setNext(current.getNext());
-	        newNode.setPrev(current);
-	        if (current.getNext() != null) { 
-	            current.getNext().setPrev(newNode);
-	        }
-	        current.setNext(newNode);
+
+	    // Insert the digit so it ends up at that position.
+	    char symbol = digit.getSymbol();
+	    makeRoomFor(symbol);
+	    digits.insert(positionFromFront, symbol);
+	    counted(symbol, 1);
+	    if (position < scale) {
+	        scale++;
 	    }
+	    digitsChanged();
 	}
 
     /**
      * Removes a digit from the linked list representing the number at a specified position 
      * from the rear and returns the decimal value represented by the removed digit in the 
-     * context of the entire number.
+     * context of the entire number. Positions count the fraction digits too; removing one 
+     * of them leaves one fraction digit less, so the radix point stays in front of the 
+     * same whole digits.
      *
      * @param position The position from the rear of the digit to be removed, where 0 is the 
      *                 least significant digit.
@@ -345,44 +1588,565 @@ public class LinkedNumber {
      *         or greater than or equal to the number of digits in the number.
      */
 	public int removeDigit(int position) {
+	    checkWritable();
 	    // Find length of list.
 		int numDigits = getNumDigits();
 	    // Check if it is valid.
 		if (position < 0 || position >= numDigits) {
 	        throw new LinkedNumberException("invalid position");
 	    }
-		
-		// Traverse to the rear and to the specified position.
-	    DLNode<Digit> current = rear;
-	    for (int i = 0; i < position; i++) {
-	        current = current.getPrev();
+
+		// Remove the digit at that position counted from the rear.
+	    char removed = digits.remove(numDigits - 1 - position);
+	    counted(removed, -1);
+	    if (position < scale) {
+	        scale--;
 	    }
-	    
+	    // Removing the last non-zero digit leaves plain zero.
+	    withSign(negative);
+	    digitsChanged();
+
 	    // Calculate the decimal value of removed digit.
-	    int digitValue = current.getElement().getValue();
+	    int digitValue = Digit.valueOf(removed);
 	    int decimalValue = (int) (digitValue * Math.pow(base, position));
-	    
-	    // Remove digit from the list.
-	    if (current == front) {
-	        front = current.getNext();
-	        if (front != null) {
-	            front.setPrev(null);
-	        }
-	        if (front == null) { 
-	            rear = null;
-	        }
-	    } else if (current == rear) {
-	        rear = current.getPrev();
-	        if (rear != null) {
-	            rear.setNext(null);
-	        }
-	    } else {
-	        current.getPrev().setNext(current.getNext());
-	        if (current.getNext() != null) {
-	            current.getNext().setPrev(current.getPrev());
-	        }
-	    }
+
 	    // Return the calculated decimal value of the removed digit.
 	    return decimalValue;
 	}
+
+    /**
+     * Adds another LinkedNumber to this one and returns the sum as a new LinkedNumber. 
+     * Both lists are walked from the rear in their own base, carrying into the next 
+     * digit just as in long-hand addition, so no conversion takes place. When the signs 
+     * differ the smaller magnitude is subtracted from the larger one instead.
+     *
+     * @param other The number to add. Must be in the same base as this number.
+     * @return A new LinkedNumber holding the sum, in the same base, without leading zeros.
+     * @throws LinkedNumberException if either number is invalid or the bases differ.
+     */
+    public LinkedNumber add(LinkedNumber other) {
+        checkOperand(other);
+        return sum(this, other, other.negative);
+    }
+
+    /**
+     * Adds another LinkedNumber to this one, changing this number. Only the digits that 
+     * the other number or a carry reach are rewritten, and new digits are only added at 
+     * the front when the sum is longer than this number. Like add, the result has no 
+     * leading zeros: any that this number had are removed. EX: "0012" plus "1" leaves 
+     * "13".
+     *
+     * @param other The number to add. Must be in the same base as this number.
+     * @throws LinkedNumberException if either number is invalid or the bases differ.
+     */
+    public void addInPlace(LinkedNumber other) {
+        checkWritable();
+        checkOperand(other);
+        accumulate(other, other.negative);
+    }
+
+    /**
+     * Subtracts another LinkedNumber from this one and returns the difference as a new 
+     * LinkedNumber. Both lists are walked from the rear in their own base, borrowing 
+     * from the next digit just as in long-hand subtraction. The difference is negative 
+     * when the other number is the larger one.
+     *
+     * @param other The number to subtract. Must be in the same base as this number.
+     * @return A new LinkedNumber holding the difference, without leading zeros.
+     * @throws LinkedNumberException if either number is invalid or the bases differ.
+     */
+    public LinkedNumber subtract(LinkedNumber other) {
+        checkOperand(other);
+        return sum(this, other, !other.negative);
+    }
+
+    /**
+     * Subtracts another LinkedNumber from this one, changing this number. Only the digits 
+     * that the other number or a borrow reach are rewritten. Like subtract, the result 
+     * has no leading zeros, including any that this number had.
+     *
+     * @param other The number to subtract. Must be in the same base as this number.
+     * @throws LinkedNumberException if either number is invalid or the bases differ.
+     */
+    public void subtractInPlace(LinkedNumber other) {
+        checkWritable();
+        checkOperand(other);
+        accumulate(other, !other.negative);
+    }
+
+    /**
+     * Adds two signed numbers into a new LinkedNumber.
+     *
+     * @param a The first number.
+     * @param b The second number, whose own sign is ignored.
+     * @param bNegative The sign to give the second number.
+     * @return A new LinkedNumber holding the sum, without leading zeros.
+     */
+    private static LinkedNumber sum(LinkedNumber a, LinkedNumber b, boolean bNegative) {
+        if (a.negative == bNegative) {
+            int numDigits = Math.max(a.digits.size(), b.digits.size()) + 1;
+            LinkedNumber result = new LinkedNumber(a.base, numDigits);
+            for (int i = 0; i < numDigits; i++) {
+                result.appendDigit('0');
+            }
+            addDigits(a, b, result);
+            result.stripLeadingZeros();
+            return result.withSign(bNegative);
+        }
+        // Opposite signs: take the smaller magnitude from the larger.
+        boolean swap = compareMagnitude(a, b) < 0;
+        LinkedNumber larger = swap ? b : a;
+        LinkedNumber smaller = swap ? a : b;
+        int numDigits = larger.digits.size();
+        LinkedNumber result = new LinkedNumber(a.base, numDigits);
+        for (int i = 0; i < numDigits; i++) {
+            result.appendDigit('0');
+        }
+        subtractDigits(larger, smaller, result);
+        result.stripLeadingZeros();
+        return result.withSign(swap ? bNegative : a.negative);
+    }
+
+    /**
+     * Adds a signed number into this one, changing this number.
+     *
+     * @param other The number to add, whose own sign is ignored.
+     * @param otherNegative The sign to give the other number.
+     */
+    private void accumulate(LinkedNumber other, boolean otherNegative) {
+        if (negative == otherNegative) {
+            int needed = other.significantDigits() - digits.size();
+            if (needed > 0) {
+                insertLeadingZeros(needed);
+            }
+            if (addDigits(this, other, this) != 0) {
+                // The carry goes past the front.
+                insertLeadingZeros(1);
+                setDigit(0, '1');
+            }
+        } else if (compareMagnitude(this, other) >= 0) {
+            subtractDigits(this, other, this);
+        } else {
+            // The other magnitude is larger: work out other - this in place, with both 
+            // lined up to the same length, and take the sign of the other number.
+            stripLeadingZeros();
+            insertLeadingZeros(other.digits.size() - digits.size());
+            subtractDigits(other, this, this);
+            negative = otherNegative;
+        }
+        stripLeadingZeros();
+        withSign(negative);
+        digitsChanged();
+    }
+
+    /**
+     * Multiplies this LinkedNumber by another and returns the product as a new 
+     * LinkedNumber in the same base. The digits of both are packed into flat arrays of 
+     * limbs, each holding several digits, and multiplied long-hand, by Karatsuba's method 
+     * or by Toom-Cook 3-way splitting depending on their length.
+     *
+     * @param other The number to multiply by. Must be in the same base as this number.
+     * @return A new LinkedNumber holding the product, without leading zeros.
+     * @throws LinkedNumberException if either number is invalid or the bases differ.
+     */
+    public LinkedNumber multiply(LinkedNumber other) {
+        checkOperand(other);
+        int radix = BaseConverter.limbRadix(base);
+        LinkedNumber product = fromLimbs(LimbMath.multiply(toLimbs(), other.toLimbs(), radix), base);
+        return product.withSign(negative != other.negative);
+    }
+
+    /**
+     * Divides this LinkedNumber by another and returns the quotient as a new LinkedNumber 
+     * in the same base, rounded towards zero.
+     *
+     * @param other The number to divide by. Must be in the same base as this number.
+     * @return A new LinkedNumber holding the quotient, without leading zeros.
+     * @throws LinkedNumberException if either number is invalid, the bases differ, or the 
+     *         divisor is zero.
+     * @see #divideAndRemainder(LinkedNumber)
+     */
+    public LinkedNumber divide(LinkedNumber other) {
+        return divideAndRemainder(other)[0];
+    }
+
+    /**
+     * Divides this LinkedNumber by another and returns the remainder as a new LinkedNumber 
+     * in the same base. Unlike the remainder from divideAndRemainder, the result is never 
+     * negative: it lies between 0 and the magnitude of the other number.
+     *
+     * @param other The number to divide by. Must be in the same base as this number.
+     * @return A new LinkedNumber holding the remainder, without leading zeros.
+     * @throws LinkedNumberException if either number is invalid, the bases differ, or the 
+     *         divisor is zero.
+     * @see #divideAndRemainder(LinkedNumber)
+     */
+    public LinkedNumber mod(LinkedNumber other) {
+        LinkedNumber remainder = divideAndRemainder(other)[1];
+        if (remainder.negative) {
+            // Take it up by the magnitude of the divisor.
+            return sum(remainder, other, false);
+        }
+        return remainder;
+    }
+
+    /**
+     * Divides this LinkedNumber by another and returns both the quotient and the 
+     * remainder. A divisor small enough to fit in an int is handled in one pass over the 
+     * digits from the front, just as in long-hand short division. Larger divisors are 
+     * packed into limbs and divided by Knuth's Algorithm D, or by the recursive method of 
+     * Burnikel and Ziegler once both numbers are long, which runs at the speed of 
+     * multiply. The quotient is rounded towards zero and the remainder takes the sign of 
+     * this number.
+     *
+     * @param other The number to divide by. Must be in the same base as this number.
+     * @return An array holding the quotient and then the remainder, both in the same base 
+     *         and without leading zeros.
+     * @throws LinkedNumberException if either number is invalid, the bases differ, or the 
+     *         divisor is zero.
+     */
+    public LinkedNumber[] divideAndRemainder(LinkedNumber other) {
+        checkOperand(other);
+        int divisor = other.smallValue();
+        if (divisor == 0) {
+            throw new LinkedNumberException("division by zero");
+        }
+        LinkedNumber[] result;
+        if (divisor > 0) {
+            result = divideBySmall(divisor);
+        } else {
+            int radix = BaseConverter.limbRadix(base);
+            int[][] qr = LimbDivision.divide(toLimbs(), other.toLimbs(), radix);
+            result = new LinkedNumber[] {fromLimbs(qr[0], base), fromLimbs(qr[1], base)};
+        }
+        result[0].withSign(negative != other.negative);
+        result[1].withSign(negative);
+        return result;
+    }
+
+    /**
+     * Divides this number by a small int in a single pass from the front, writing each 
+     * quotient digit as soon as it is known.
+     *
+     * @param divisor The divisor, positive and at most Integer.MAX_VALUE / base.
+     * @return An array holding the quotient and then the remainder.
+     */
+    private LinkedNumber[] divideBySmall(int divisor) {
+        int numDigits = digits.size();
+        LinkedNumber quotient = new LinkedNumber(base, numDigits);
+        long rem = 0;
+        for (int i = 0; i < numDigits; i++) {
+            long cur = rem * base + digits.valueAt(i);
+            quotient.appendDigit(symbolFor((int) (cur / divisor)));
+            rem = cur % divisor;
+        }
+        quotient.stripLeadingZeros();
+        return new LinkedNumber[] {quotient, fromLong(rem, base)};
+    }
+
+    /**
+     * Returns the value of this number if it is small enough to divide by in one pass.
+     *
+     * @return The value, or -1 if it is larger than Integer.MAX_VALUE / base.
+     */
+    private int smallValue() {
+        int limit = Integer.MAX_VALUE / base;
+        int numDigits = digits.size();
+        long value = 0;
+        for (int i = 0; i < numDigits; i++) {
+            value = value * base + digits.valueAt(i);
+            if (value > limit) {
+                return -1;
+            }
+        }
+        return (int) value;
+    }
+
+    /**
+     * Builds a LinkedNumber holding a non-negative long value.
+     *
+     * @param value The value, not negative.
+     * @param newBase The base of the number.
+     * @return A new LinkedNumber instance holding the value, without leading zeros.
+     */
+    private static LinkedNumber fromLong(long value, int newBase) {
+        int[] buffer = new int[64];
+        int start = buffer.length;
+        do {
+            buffer[--start] = (int) (value % newBase);
+            value /= newBase;
+        } while (value != 0);
+        return fromDigitValues(Arrays.copyOfRange(buffer, start, buffer.length), newBase);
+    }
+
+    /**
+     * Raises this LinkedNumber to a power modulo another number and returns the result as 
+     * a new LinkedNumber in the same base. The three numbers are converted to binary 
+     * words and the exponent is scanned in sliding windows. For an odd modulus every 
+     * product is reduced by Montgomery multiplication, so no division takes place inside 
+     * the loop; an even modulus falls back to reducing each product by division.
+     *
+     * @param exponent The power to raise this number to. Must be in the same base as 
+     *                 this number.
+     * @param modulus The modulus. Must be in the same base as this number.
+     * @return A new LinkedNumber holding this^exponent mod modulus, between 0 and the 
+     *         modulus and without leading zeros.
+     * @throws LinkedNumberException if any number is invalid, the bases differ, the 
+     *         modulus is zero or negative, or the exponent is negative and this number 
+     *         has no inverse.
+     */
+    public LinkedNumber modPow(LinkedNumber exponent, LinkedNumber modulus) {
+        checkOperand(exponent);
+        int[] m = modulusLimbs(modulus);
+        // A negative power is a positive power of the inverse.
+        LinkedNumber x = exponent.signum() < 0 ? modInverse(modulus) : this;
+        int[] e = exponent.toBinaryLimbs();
+        int[] power = ModularExponentiation.modPow(x.toBinaryLimbs(), e, m);
+        if (x.negative && power.length != 0 && e.length != 0 && (e[0] & 1) != 0) {
+            // An odd power of a negative number.
+            power = LimbMath.subtract(m, power, BaseConverter.MAX_LIMB_RADIX);
+        }
+        return fromBinaryLimbs(power, base);
+    }
+
+    /**
+     * Checks a modulus and packs it into limbs of radix 2^16.
+     *
+     * @param modulus The modulus.
+     * @return The modulus as limbs, least significant first.
+     * @throws LinkedNumberException if the modulus is invalid, in another base, zero or 
+     *         negative.
+     */
+    private int[] modulusLimbs(LinkedNumber modulus) {
+        checkOperand(modulus);
+        int[] m = modulus.toBinaryLimbs();
+        if (m.length == 0) {
+            throw new LinkedNumberException("division by zero");
+        }
+        if (modulus.negative) {
+            throw new LinkedNumberException("negative modulus");
+        }
+        return m;
+    }
+
+    /**
+     * Returns the greatest common divisor of this LinkedNumber and another as a new 
+     * LinkedNumber in the same base. Long numbers are reduced by Lehmer's method, which 
+     * works out many steps of Euclid's algorithm from the leading digits alone before 
+     * touching the full numbers; short ones finish with the binary algorithm.
+     *
+     * @param other The other number. Must be in the same base as this number.
+     * @return A new LinkedNumber holding the greatest common divisor, without leading 
+     *         zeros. The result is never negative, and zero only if both numbers are zero.
+     * @throws LinkedNumberException if either number is invalid or the bases differ.
+     */
+    public LinkedNumber gcd(LinkedNumber other) {
+        checkOperand(other);
+        return fromBinaryLimbs(GreatestCommonDivisor.gcd(toBinaryLimbs(), other.toBinaryLimbs()), base);
+    }
+
+    /**
+     * Returns the inverse of this LinkedNumber modulo another: the number x below the 
+     * modulus for which this * x mod modulus is 1.
+     *
+     * @param modulus The modulus. Must be in the same base as this number.
+     * @return A new LinkedNumber holding the inverse, without leading zeros.
+     * @throws LinkedNumberException if either number is invalid, the bases differ, the 
+     *         modulus is zero or negative, or this number and the modulus have a common 
+     *         factor.
+     */
+    public LinkedNumber modInverse(LinkedNumber modulus) {
+        int[] m = modulusLimbs(modulus);
+        if (m.length == 1 && m[0] == 1) {
+            return new LinkedNumber("0", base);
+        }
+        int[] inverse = GreatestCommonDivisor.modInverse(toBinaryLimbs(), m);
+        if (inverse == null) {
+            throw new LinkedNumberException("not invertible");
+        }
+        if (negative && inverse.length != 0) {
+            // The inverse of -x is minus the inverse of x.
+            inverse = LimbMath.subtract(m, inverse, BaseConverter.MAX_LIMB_RADIX);
+        }
+        return fromBinaryLimbs(inverse, base);
+    }
+
+    /**
+     * Returns the integer square root of this LinkedNumber, the largest number whose 
+     * square is not larger than it, as a new LinkedNumber in the same base.
+     *
+     * @return A new LinkedNumber holding floor(sqrt(this)), without leading zeros.
+     * @throws LinkedNumberException if the number is invalid or negative.
+     * @see #root(int)
+     */
+    public LinkedNumber sqrt() {
+        return root(2);
+    }
+
+    /**
+     * Returns the integer k-th root of this LinkedNumber as a new LinkedNumber in the 
+     * same base. For a positive number it is the largest number whose k-th power is not 
+     * larger than it. The root is found by Newton's iteration, started from the root of 
+     * the leading half of the digits, so the total cost is a few multiplications and 
+     * divisions at full size. Odd roots of negative numbers are negative and truncated 
+     * towards zero, so they are not the floor: the cube root of -9 is -2.
+     *
+     * @param k The degree of the root, at least 1.
+     * @return A new LinkedNumber holding the root of the magnitude, floor(|this|^(1/k)), 
+     *         with the sign of this number, without leading zeros.
+     * @throws LinkedNumberException if the number is invalid or has fraction digits, k is 
+     *         less than 1, or k is even and the number is negative.
+     */
+    public LinkedNumber root(int k) {
+        if (!isValidNumber()) {
+            throw new LinkedNumberException("invalid number");
+        }
+        if (k < 1) {
+            throw new LinkedNumberException("invalid root");
+        }
+        if (scale != 0) {
+            throw new LinkedNumberException("fractional number");
+        }
+        if (k % 2 == 0 && signum() < 0) {
+            throw new LinkedNumberException("even root of negative number");
+        }
+        LinkedNumber root = fromBinaryLimbs(IntegerRoot.root(toBinaryLimbs(), k), base);
+        return root.withSign(negative);
+    }
+
+    /**
+     * Checks that another number can take part in arithmetic with this one.
+     *
+     * @param other The other operand.
+     * @throws LinkedNumberException if either number is invalid or has fraction digits, 
+     *         or the bases differ.
+     */
+    private void checkOperand(LinkedNumber other) {
+        if (!isValidNumber() || !other.isValidNumber()) {
+            throw new LinkedNumberException("invalid number");
+        }
+        if (base != other.base) {
+            throw new LinkedNumberException("bases do not match");
+        }
+        if (scale != 0 || other.scale != 0) {
+            throw new LinkedNumberException("fractional number");
+        }
+    }
+
+    /**
+     * Writes a + b into the digits of result from the rear. Result must have at least as 
+     * many digits as the significant part of the sum; it may be a or b itself. Once b 
+     * has run out and there is no carry left, the remaining digits are left untouched.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param result The number to write the sum into.
+     * @return The carry out of the front of result, 0 or 1.
+     */
+    private static int addDigits(LinkedNumber a, LinkedNumber b, LinkedNumber result) {
+        int base = a.base;
+        int aDigits = a.digits.size();
+        int bDigits = b.digits.size();
+        int rDigits = result.digits.size();
+        int carry = 0;
+        for (int k = 0; k < rDigits; k++) {
+            // Nothing left to add in and the rest of a is already in place.
+            if (k >= bDigits && carry == 0 && result == a) {
+                return 0;
+            }
+            int sum = carry;
+            sum += k < aDigits ? a.digits.valueAt(aDigits - 1 - k) : 0;
+            sum += k < bDigits ? b.digits.valueAt(bDigits - 1 - k) : 0;
+            carry = sum >= base ? 1 : 0;
+            result.setDigit(rDigits - 1 - k, symbolFor(sum - carry * base));
+        }
+        return carry;
+    }
+
+    /**
+     * Writes a - b into the digits of result from the rear. The value of a must not be 
+     * smaller than b, and result must have as many digits as a; it may be a itself.
+     *
+     * @param a The number to subtract from.
+     * @param b The number to subtract.
+     * @param result The number to write the difference into.
+     */
+    private static void subtractDigits(LinkedNumber a, LinkedNumber b, LinkedNumber result) {
+        int base = a.base;
+        int aDigits = a.digits.size();
+        int bDigits = b.digits.size();
+        int borrow = 0;
+        for (int k = 0; k < aDigits; k++) {
+            // Nothing left to take away and the rest of a is already in place.
+            if (k >= bDigits && borrow == 0 && result == a) {
+                return;
+            }
+            int diff = a.digits.valueAt(aDigits - 1 - k) - borrow;
+            diff -= k < bDigits ? b.digits.valueAt(bDigits - 1 - k) : 0;
+            borrow = diff < 0 ? 1 : 0;
+            result.setDigit(aDigits - 1 - k, symbolFor(diff + borrow * base));
+        }
+    }
+
+    /**
+     * Compares the magnitudes of two valid numbers written in the same base. Leading 
+     * zeros are skipped and the places of the leading digits are compared; only numbers 
+     * whose leading digits line up are scanned from the front, reading digits past the 
+     * end of the shorter fraction as zeros.
+     *
+     * @param a The first number.
+     * @param b The second number.
+     * @return A negative number, zero or a positive number as a is less than, equal to 
+     *         or greater than b.
+     */
+    private static int compareMagnitude(LinkedNumber a, LinkedNumber b) {
+        int aLength = a.significantDigits();
+        int bLength = b.significantDigits();
+        if (aLength == 0 || bLength == 0) {
+            return aLength == bLength ? 0 : (aLength == 0 ? -1 : 1);
+        }
+        // The number of digits in front of the point, counting from the leading one.
+        long aPlaces = (long) aLength - a.scale;
+        long bPlaces = (long) bLength - b.scale;
+        if (aPlaces != bPlaces) {
+            return aPlaces < bPlaces ? -1 : 1;
+        }
+        int aStart = a.digits.size() - aLength;
+        int bStart = b.digits.size() - bLength;
+        int length = Math.max(aLength, bLength);
+        for (int i = 0; i < length; i++) {
+            int aDigit = i < aLength ? a.digits.valueAt(aStart + i) : 0;
+            int bDigit = i < bLength ? b.digits.valueAt(bStart + i) : 0;
+            if (aDigit != bDigit) {
+                return aDigit - bDigit;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of digits left once leading zeros are ignored. Zero has no 
+     * significant digits.
+     *
+     * @return The number of digits from the first non-zero digit to the rear.
+     */
+    private int significantDigits() {
+        int numDigits = digits.size();
+        int first = 0;
+        while (first < numDigits && digits.valueAt(first) == 0) {
+            first++;
+        }
+        return numDigits - first;
+    }
+
+    /**
+     * Removes leading zeros, keeping at least one digit in front of the radix point.
+     */
+    private void stripLeadingZeros() {
+        int zeros = digits.size() - Math.max(scale + 1, significantDigits());
+        if (zeros > 0) {
+            digits.removeLeading(zeros);
+            counted('0', -zeros);
+        }
+    }
 }
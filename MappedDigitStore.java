@@ -0,0 +1,109 @@
+package LinkedNumbers;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A read-only DigitStore over ASCII digits in a memory-mapped file. The digits stay in the
+ * file and are paged in by the operating system as they are read, so a number can be much
+ * larger than the heap. A single mapping holds at most 2 GB, so the file is mapped in
+ * regions of 1 GB and a position picks its region by its high bits.
+ * <p>
+ * Every change to the digits fails. accepts still returns true, so that a change reaches
+ * the store and fails here instead of first copying every digit to the heap.
+ */
+final class MappedDigitStore implements DigitStore {
+
+    private static final int REGION_BITS = 30;
+    private static final int REGION_MASK = (1 << REGION_BITS) - 1;
+
+    private final MappedByteBuffer[] regions;
+    private final int size;
+
+    /**
+     * Maps a run of digits of a file. The mapping stays valid after the channel is closed.
+     *
+     * @param channel The file, open for reading.
+     * @param offset The position in the file of the first digit.
+     * @param size The number of digits.
+     * @throws IOException if the file cannot be mapped.
+     */
+    MappedDigitStore(FileChannel channel, long offset, int size) throws IOException {
+        this.size = size;
+        regions = new MappedByteBuffer[(int) (((long) size + REGION_MASK) >>> REGION_BITS)];
+        for (int i = 0; i < regions.length; i++) {
+            long start = (long) i << REGION_BITS;
+            long length = Math.min(size - start, 1L << REGION_BITS);
+            regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + start, length);
+            // The validator reads eight digits at a time with lane 0 first.
+            regions[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (regions[index >>> REGION_BITS].get(index & REGION_MASK) & 0xFF);
+    }
+
+    @Override
+    public int valueAt(int index) {
+        return Digit.valueOf(charAt(index));
+    }
+
+    @Override
+    public int indexOfInvalid(int base) {
+        for (int i = 0; i < regions.length; i++) {
+            int bad = DigitValidator.indexOfInvalid(regions[i], 0, regions[i].limit(), base);
+            if (bad >= 0) {
+                return (i << REGION_BITS) + bad;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean accepts(char symbol) {
+        return true;
+    }
+
+    @Override
+    public void set(int index, char symbol) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addLast(char symbol) {
+        throw readOnly();
+    }
+
+    @Override
+    public void insert(int index, char symbol) {
+        throw readOnly();
+    }
+
+    @Override
+    public char remove(int index) {
+        throw readOnly();
+    }
+
+    @Override
+    public void insertLeadingZeros(int count) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeLeading(int count) {
+        throw readOnly();
+    }
+
+    private static LinkedNumberException readOnly() {
+        return new LinkedNumberException("read-only number");
+    }
+}
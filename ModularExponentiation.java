@@ -0,0 +1,378 @@
+package LinkedNumbers;
+
+import java.util.Arrays;
+
+/**
+ * Raises numbers to a power modulo another number. The exponent is scanned from the top
+ * bit down in sliding windows: runs of zero bits cost one squaring each, and every window
+ * of up to w bits ending in a one costs a single multiplication by a precomputed odd
+ * power of the base, so an e-bit exponent takes about e squarings and e / (w + 1)
+ * multiplications.
+ * <p>
+ * For an odd modulus the products are reduced by Montgomery multiplication on 32-bit
+ * words, which replaces every division by multiplications and shifts. An even modulus
+ * has no Montgomery form, so each product is reduced by division instead.
+ * <p>
+ * Inputs and outputs are limb arrays of radix 2^16, least significant first.
+ */
+final class ModularExponentiation {
+
+    private static final long MASK = 0xFFFFFFFFL;
+    private static final int LIMB_BITS = 16;
+
+    /**
+     * Exponent lengths, in bits, above which the next larger window is used.
+     */
+    private static final int[] WINDOW_THRESHOLDS = {7, 25, 81, 241, 673, 1793};
+
+    private ModularExponentiation() {
+    }
+
+    /**
+     * Computes base^exponent mod modulus.
+     *
+     * @param base The base, limbs of radix 2^16.
+     * @param exponent The exponent, limbs of radix 2^16.
+     * @param modulus The modulus, limbs of radix 2^16, not zero.
+     * @return The result as limbs of radix 2^16, without high zero limbs.
+     */
+    static int[] modPow(int[] base, int[] exponent, int[] modulus) {
+        int radix = 1 << LIMB_BITS;
+        if (modulus.length == 1 && modulus[0] == 1) {
+            return new int[0];
+        }
+        int[] reduced = LimbDivision.divide(base, modulus, radix)[1];
+        if ((modulus[0] & 1) != 0) {
+            Montgomery montgomery = new Montgomery(modulus);
+            int[] power = slidingWindow(montgomery.enter(reduced), exponent, montgomery);
+            return montgomery.leave(power);
+        }
+        return slidingWindow(reduced, exponent, new Classic(modulus));
+    }
+
+    /**
+     * Raises a number to a power by left-to-right sliding-window exponentiation.
+     *
+     * @param g The number to raise, in the representation of the arithmetic.
+     * @param exponent The exponent, limbs of radix 2^16.
+     * @param arithmetic The modular arithmetic to use.
+     * @return g^exponent, in the representation of the arithmetic.
+     */
+    private static int[] slidingWindow(int[] g, int[] exponent, Arithmetic arithmetic) {
+        int bits = bitLength(exponent);
+        if (bits == 0) {
+            return arithmetic.one();
+        }
+        int window = 1;
+        while (window <= WINDOW_THRESHOLDS.length && bits > WINDOW_THRESHOLDS[window - 1]) {
+            window++;
+        }
+        // table[i] = g^(2i + 1)
+        int[][] table = new int[1 << (window - 1)][];
+        table[0] = g;
+        if (table.length > 1) {
+            int[] square = arithmetic.square(g);
+            for (int i = 1; i < table.length; i++) {
+                table[i] = arithmetic.multiply(table[i - 1], square);
+            }
+        }
+        int[] result = null;
+        int i = bits - 1;
+        while (i >= 0) {
+            if (!testBit(exponent, i)) {
+                result = arithmetic.square(result);
+                i--;
+                continue;
+            }
+            // The longest window starting at bit i that ends in a one.
+            int low = Math.max(i - window + 1, 0);
+            while (!testBit(exponent, low)) {
+                low++;
+            }
+            int value = 0;
+            for (int k = i; k >= low; k--) {
+                value = (value << 1) | (testBit(exponent, k) ? 1 : 0);
+                if (result != null) {
+                    result = arithmetic.square(result);
+                }
+            }
+            int[] odd = table[value >>> 1];
+            result = result == null ? odd : arithmetic.multiply(result, odd);
+            i = low - 1;
+        }
+        return result;
+    }
+
+    private static int bitLength(int[] limbs) {
+        if (limbs.length == 0) {
+            return 0;
+        }
+        return (limbs.length - 1) * LIMB_BITS + 32 - Integer.numberOfLeadingZeros(limbs[limbs.length - 1]);
+    }
+
+    private static boolean testBit(int[] limbs, int bit) {
+        return ((limbs[bit / LIMB_BITS] >>> (bit % LIMB_BITS)) & 1) != 0;
+    }
+
+    /**
+     * Multiplication modulo a fixed modulus, in some representation of the residues.
+     */
+    private abstract static class Arithmetic {
+
+        /**
+         * Returns the representation of 1.
+         *
+         * @return One.
+         */
+        abstract int[] one();
+
+        /**
+         * Multiplies two residues.
+         *
+         * @param a The first residue.
+         * @param b The second residue.
+         * @return a * b mod the modulus.
+         */
+        abstract int[] multiply(int[] a, int[] b);
+
+        /**
+         * Squares a residue.
+         *
+         * @param a The residue.
+         * @return a * a mod the modulus.
+         */
+        int[] square(int[] a) {
+            return multiply(a, a);
+        }
+    }
+
+    /**
+     * Residues kept as plain limbs of radix 2^16, reduced by division after every product.
+     */
+    private static final class Classic extends Arithmetic {
+        private final int[] modulus;
+
+        private Classic(int[] modulus) {
+            this.modulus = modulus;
+        }
+
+        @Override
+        int[] one() {
+            return new int[] {1};
+        }
+
+        @Override
+        int[] multiply(int[] a, int[] b) {
+            int radix = 1 << LIMB_BITS;
+            return LimbDivision.divide(LimbMath.multiply(a, b, radix), modulus, radix)[1];
+        }
+    }
+
+    /**
+     * Residues kept in Montgomery form a R mod n, where R = 2^(32k) and n is an odd
+     * modulus of k words. Each residue is an array of exactly k 32-bit words, least
+     * significant first, read as unsigned.
+     */
+    private static final class Montgomery extends Arithmetic {
+        private final int[] modulus;
+        private final int[] n;
+        private final int nPrime;
+
+        private Montgomery(int[] modulus) {
+            this.modulus = modulus;
+            this.n = toWords(modulus, (modulus.length + 1) / 2);
+            // -n^-1 mod 2^32 by Newton's iteration; each step doubles the correct bits.
+            int inverse = n[0];
+            for (int i = 0; i < 5; i++) {
+                inverse *= 2 - n[0] * inverse;
+            }
+            this.nPrime = -inverse;
+        }
+
+        /**
+         * Moves a residue into Montgomery form.
+         *
+         * @param a The residue, limbs of radix 2^16 below the modulus.
+         * @return a R mod n, as words.
+         */
+        int[] enter(int[] a) {
+            int[] shifted = new int[a.length + 2 * n.length];
+            System.arraycopy(a, 0, shifted, 2 * n.length, a.length);
+            int[] r = LimbDivision.divide(LimbMath.trim(shifted), modulus, 1 << LIMB_BITS)[1];
+            return toWords(r, n.length);
+        }
+
+        /**
+         * Moves a residue out of Montgomery form.
+         *
+         * @param a The residue in Montgomery form, as words.
+         * @return a R^-1 mod n, as limbs of radix 2^16.
+         */
+        int[] leave(int[] a) {
+            int[] unit = new int[n.length];
+            unit[0] = 1;
+            return fromWords(multiply(a, unit));
+        }
+
+        @Override
+        int[] one() {
+            return enter(new int[] {1});
+        }
+
+        /**
+         * Computes a b R^-1 mod n with the coarsely integrated operand scanning method:
+         * each word of b is multiplied in and immediately followed by one word of
+         * reduction, so the running total never grows beyond k + 2 words.
+         */
+        @Override
+        int[] multiply(int[] a, int[] b) {
+            int k = n.length;
+            int[] t = new int[k + 2];
+            for (int i = 0; i < k; i++) {
+                // t += a * b[i]
+                long bi = b[i] & MASK;
+                long carry = 0;
+                for (int j = 0; j < k; j++) {
+                    long s = (t[j] & MASK) + (a[j] & MASK) * bi + carry;
+                    t[j] = (int) s;
+                    carry = s >>> 32;
+                }
+                long s = (t[k] & MASK) + carry;
+                t[k] = (int) s;
+                t[k + 1] = (int) (s >>> 32);
+                // t = (t + m n) / 2^32, where m makes the low word vanish.
+                long m = (t[0] * nPrime) & MASK;
+                s = (t[0] & MASK) + m * (n[0] & MASK);
+                carry = s >>> 32;
+                for (int j = 1; j < k; j++) {
+                    s = (t[j] & MASK) + m * (n[j] & MASK) + carry;
+                    t[j - 1] = (int) s;
+                    carry = s >>> 32;
+                }
+                s = (t[k] & MASK) + carry;
+                t[k - 1] = (int) s;
+                t[k] = t[k + 1] + (int) (s >>> 32);
+                t[k + 1] = 0;
+            }
+            int[] result = Arrays.copyOf(t, k);
+            if (t[k] != 0 || compareWords(result, n) >= 0) {
+                subtractWords(result, n);
+            }
+            return result;
+        }
+
+        /**
+         * Computes a a R^-1 mod n. The full square is formed first, computing each cross
+         * product a[i] a[j] once and doubling, and is then reduced a word at a time.
+         */
+        @Override
+        int[] square(int[] a) {
+            int k = n.length;
+            int[] t = new int[2 * k + 1];
+            // Cross products.
+            for (int i = 0; i < k; i++) {
+                long ai = a[i] & MASK;
+                long carry = 0;
+                for (int j = i + 1; j < k; j++) {
+                    long s = (t[i + j] & MASK) + ai * (a[j] & MASK) + carry;
+                    t[i + j] = (int) s;
+                    carry = s >>> 32;
+                }
+                t[i + k] = (int) carry;
+            }
+            // Double them and add the squares on the diagonal.
+            for (int i = 2 * k; i > 0; i--) {
+                t[i] = (t[i] << 1) | (t[i - 1] >>> 31);
+            }
+            t[0] <<= 1;
+            long carry = 0;
+            for (int i = 0; i < k; i++) {
+                long ai = a[i] & MASK;
+                long s = (t[2 * i] & MASK) + ai * ai + carry;
+                t[2 * i] = (int) s;
+                s = (t[2 * i + 1] & MASK) + (s >>> 32);
+                t[2 * i + 1] = (int) s;
+                carry = s >>> 32;
+            }
+            t[2 * k] += (int) carry;
+            return reduce(t);
+        }
+
+        /**
+         * Computes t R^-1 mod n for a product t of two residues.
+         *
+         * @param t The product, 2k + 1 words; overwritten.
+         * @return The reduced residue, k words.
+         */
+        private int[] reduce(int[] t) {
+            int k = n.length;
+            for (int i = 0; i < k; i++) {
+                long m = (t[i] * nPrime) & MASK;
+                long carry = 0;
+                for (int j = 0; j < k; j++) {
+                    long s = (t[i + j] & MASK) + m * (n[j] & MASK) + carry;
+                    t[i + j] = (int) s;
+                    carry = s >>> 32;
+                }
+                for (int j = i + k; carry != 0; j++) {
+                    long s = (t[j] & MASK) + carry;
+                    t[j] = (int) s;
+                    carry = s >>> 32;
+                }
+            }
+            int[] result = Arrays.copyOfRange(t, k, 2 * k);
+            if (t[2 * k] != 0 || compareWords(result, n) >= 0) {
+                subtractWords(result, n);
+            }
+            return result;
+        }
+
+        private static int compareWords(int[] a, int[] b) {
+            for (int i = a.length - 1; i >= 0; i--) {
+                if (a[i] != b[i]) {
+                    return Integer.compareUnsigned(a[i], b[i]);
+                }
+            }
+            return 0;
+        }
+
+        private static void subtractWords(int[] a, int[] b) {
+            long borrow = 0;
+            for (int i = 0; i < a.length; i++) {
+                long d = (a[i] & MASK) - (b[i] & MASK) - borrow;
+                a[i] = (int) d;
+                borrow = d < 0 ? 1 : 0;
+            }
+        }
+
+        /**
+         * Packs limbs of radix 2^16 into 32-bit words, two limbs to a word.
+         *
+         * @param limbs The limbs, least significant first.
+         * @param length The number of words to produce.
+         * @return The words, least significant first, padded with zero words.
+         */
+        private static int[] toWords(int[] limbs, int length) {
+            int[] words = new int[length];
+            for (int i = 0; i < limbs.length; i++) {
+                words[i >> 1] |= limbs[i] << ((i & 1) * LIMB_BITS);
+            }
+            return words;
+        }
+
+        /**
+         * Unpacks 32-bit words into limbs of radix 2^16.
+         *
+         * @param words The words, least significant first.
+         * @return The limbs, least significant first, without high zero limbs.
+         */
+        private static int[] fromWords(int[] words) {
+            int[] limbs = new int[words.length * 2];
+            for (int i = 0; i < words.length; i++) {
+                limbs[2 * i] = words[i] & 0xFFFF;
+                limbs[2 * i + 1] = words[i] >>> LIMB_BITS;
+            }
+            return LimbMath.trim(limbs);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package LinkedNumbers;
+
+/**
+ * Multiplies limb arrays with number-theoretic transforms. The limbs of each operand are
+ * taken as the coefficients of a polynomial, the cyclic convolution of the two is
+ * computed with forward and inverse transforms modulo two primes of the form c 2^k + 1,
+ * and every coefficient of the product is recovered from its two residues with the
+ * Chinese remainder theorem before the carries are propagated. Everything stays in
+ * integer arithmetic, so there is no rounding to worry about, and the cost is
+ * O(n log n).
+ * <p>
+ * A coefficient of the product is a sum of at most n products of two limbs below 2^16,
+ * so it stays below 2^32 n. The two primes multiply to about 2^58.7, which covers every
+ * product up to MAX_LENGTH coefficients.
+ */
+final class NumberTheoreticTransform {
+
+    private static final int P1 = 998244353;  // 119 * 2^23 + 1
+    private static final int P2 = 469762049;  // 7 * 2^26 + 1
+    private static final int GENERATOR = 3;   // primitive root of both primes
+
+    /**
+     * The longest transform supported: the largest power of two dividing P1 - 1.
+     */
+    static final int MAX_LENGTH = 1 << 23;
+
+    private NumberTheoreticTransform() {
+    }
+
+    /**
+     * Multiplies two numbers.
+     *
+     * @param a The first operand, limbs below 2^16, least significant first.
+     * @param b The second operand.
+     * @param radix The radix of the limbs.
+     * @return a * b, or null if the product is too long for the transform.
+     */
+    static int[] multiply(int[] a, int[] b, int radix) {
+        int productLength = a.length + b.length - 1;
+        int n = Integer.highestOneBit(Math.max(productLength, 1));
+        if (n < productLength) {
+            n <<= 1;
+        }
+        if (n > MAX_LENGTH) {
+            return null;
+        }
+        int[] c1 = convolve(a, b, n, P1);
+        int[] c2 = convolve(a, b, n, P2);
+
+        // Garner: x = r1 + P1 * ((r2 - r1) / P1 mod P2).
+        long p1InverseModP2 = power(P1 % P2, P2 - 2, P2);
+        long[] acc = new long[productLength];
+        for (int i = 0; i < productLength; i++) {
+            long r1 = c1[i];
+            long t = ((c2[i] - r1 % P2 + P2) % P2) * p1InverseModP2 % P2;
+            acc[i] = r1 + t * P1;
+        }
+        return LimbMath.normalize(acc, radix);
+    }
+
+    /**
+     * Computes the cyclic convolution of two coefficient arrays modulo a prime.
+     *
+     * @param a The first coefficients.
+     * @param b The second coefficients.
+     * @param n The transform length, a power of two at least a.length + b.length - 1.
+     * @param p The prime modulus.
+     * @return The first a.length + b.length - 1 coefficients of the product mod p.
+     */
+    private static int[] convolve(int[] a, int[] b, int n, int p) {
+        int[] fa = new int[n];
+        int[] fb = new int[n];
+        System.arraycopy(a, 0, fa, 0, a.length);
+        System.arraycopy(b, 0, fb, 0, b.length);
+        transform(fa, p, false);
+        if (a == b) {
+            fb = fa;
+        } else {
+            transform(fb, p, false);
+        }
+        for (int i = 0; i < n; i++) {
+            fa[i] = (int) ((long) fa[i] * fb[i] % p);
+        }
+        transform(fa, p, true);
+        long nInverse = power(n, p - 2, p);
+        for (int i = 0; i < n; i++) {
+            fa[i] = (int) (fa[i] * nInverse % p);
+        }
+        return fa;
+    }
+
+    /**
+     * Transforms an array in place with the iterative radix-2 Cooley-Tukey butterfly. The
+     * inverse transform uses the inverse root and leaves the scaling by 1/n to the caller.
+     *
+     * @param a The coefficients, modified in place; the length is a power of two.
+     * @param p The prime modulus.
+     * @param inverse True for the inverse transform.
+     */
+    private static void transform(int[] a, int p, boolean inverse) {
+        int n = a.length;
+        // Bit-reversal permutation.
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                int t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        }
+        int[] roots = new int[n / 2];
+        for (int len = 2; len <= n; len <<= 1) {
+            long root = power(GENERATOR, (p - 1) / len, p);
+            if (inverse) {
+                root = power(root, p - 2, p);
+            }
+            int half = len / 2;
+            // Powers of the root for this level.
+            roots[0] = 1;
+            for (int k = 1; k < half; k++) {
+                roots[k] = (int) (roots[k - 1] * root % p);
+            }
+            for (int i = 0; i < n; i += len) {
+                for (int k = 0; k < half; k++) {
+                    int u = a[i + k];
+                    int v = (int) ((long) a[i + k + half] * roots[k] % p);
+                    int sum = u + v;
+                    a[i + k] = sum >= p ? sum - p : sum;
+                    int diff = u - v;
+                    a[i + k + half] = diff < 0 ? diff + p : diff;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes base^exponent mod m by repeated squaring.
+     *
+     * @param base The base, below m.
+     * @param exponent The exponent, non-negative.
+     * @param m The modulus, below 2^31.
+     * @return base^exponent mod m.
+     */
+    private static long power(long base, long exponent, long m) {
+        long result = 1;
+        base %= m;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = result * base % m;
+            }
+            base = base * base % m;
+            exponent >>= 1;
+        }
+        return result;
+    }
+}
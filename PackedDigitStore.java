@@ -0,0 +1,201 @@
+package LinkedNumbers;
+
+import java.util.Arrays;
+
+/**
+ * A DigitStore that packs two digits into each byte. Only the characters 0-9 and A-F can
+ * be stored, each as its four-bit value, so a digit costs half a byte and a scan over the
+ * number reads one contiguous array. The digit at position i lives in byte i / 2: the
+ * high nibble for even positions and the low nibble for odd ones.
+ */
+final class PackedDigitStore implements DigitStore {
+
+    private static final char[] SYMBOLS = "0123456789ABCDEF".toCharArray();
+
+    private byte[] data;
+    private int size;
+
+    /**
+     * Creates an empty store with room for the given number of digits.
+     *
+     * @param capacity The number of digits to allocate room for.
+     */
+    PackedDigitStore(int capacity) {
+        data = new byte[(Math.max(capacity, 2) + 1) / 2];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return SYMBOLS[valueAt(index)];
+    }
+
+    @Override
+    public int valueAt(int index) {
+        int b = data[index >> 1];
+        return (index & 1) == 0 ? (b >> 4) & 0xF : b & 0xF;
+    }
+
+    @Override
+    public int indexOfInvalid(int base) {
+        return DigitValidator.indexOfInvalidPacked(data, size, base);
+    }
+
+    @Override
+    public boolean accepts(char symbol) {
+        return (symbol >= '0' && symbol <= '9') || (symbol >= 'A' && symbol <= 'F');
+    }
+
+    @Override
+    public void set(int index, char symbol) {
+        setValue(index, symbol <= '9' ? symbol - '0' : symbol - 'A' + 10);
+    }
+
+    @Override
+    public void addLast(char symbol) {
+        if (size == data.length * 2) {
+            data = Arrays.copyOf(data, data.length + (data.length >> 1) + 1);
+        }
+        size++;
+        set(size - 1, symbol);
+    }
+
+    @Override
+    public void insert(int index, char symbol) {
+        addLast('0');
+        // Move every digit from index onwards up by one nibble, a byte at a time.
+        int first = index >> 1;
+        for (int j = (size - 1) >> 1; j > first; j--) {
+            data[j] = (byte) (((data[j] & 0xFF) >>> 4) | (data[j - 1] << 4));
+        }
+        if ((index & 1) == 0) {
+            data[first] = (byte) ((data[first] & 0xFF) >>> 4);
+        }
+        set(index, symbol);
+    }
+
+    @Override
+    public char remove(int index) {
+        char removed = charAt(index);
+        // Move every digit after index down by one nibble, a byte at a time.
+        int first = index >> 1;
+        int last = (size - 1) >> 1;
+        for (int j = first; j <= last; j++) {
+            int next = j < last ? (data[j + 1] & 0xFF) >>> 4 : 0;
+            if (j == first && (index & 1) == 1) {
+                data[j] = (byte) ((data[j] & 0xF0) | next);
+            } else {
+                data[j] = (byte) ((data[j] << 4) | next);
+            }
+        }
+        size--;
+        return removed;
+    }
+
+    @Override
+    public void insertLeadingZeros(int count) {
+        int newSize = size + count;
+        if ((newSize + 1) / 2 > data.length) {
+            // Out of room: grow, copying each digit to its new place on the way.
+            byte[] moved = new byte[Math.max(data.length + (data.length >> 1) + 1, (newSize + 1) / 2)];
+            copyNibbles(data, 0, moved, count, size);
+            data = moved;
+        } else {
+            moveNibbles(0, count, size);
+            Arrays.fill(data, 0, count >> 1, (byte) 0);
+            if ((count & 1) == 1) {
+                setValue(count - 1, 0);
+            }
+        }
+        size = newSize;
+    }
+
+    @Override
+    public void removeLeading(int count) {
+        moveNibbles(count, 0, size - count);
+        size -= count;
+    }
+
+    /**
+     * Writes the four-bit value of the digit at a position.
+     *
+     * @param index The position from the front.
+     * @param value The digit value, between 0 and 15.
+     */
+    private void setValue(int index, int value) {
+        int i = index >> 1;
+        if ((index & 1) == 0) {
+            data[i] = (byte) ((data[i] & 0x0F) | (value << 4));
+        } else {
+            data[i] = (byte) ((data[i] & 0xF0) | value);
+        }
+    }
+
+    /**
+     * Moves a run of digits within the array, which may overlap its new place. When both
+     * positions are even whole bytes are moved; otherwise each digit is moved on its own,
+     * working from the end that cannot overwrite digits still to be moved.
+     *
+     * @param from The position of the first digit to move.
+     * @param to The position the first digit is moved to.
+     * @param count The number of digits to move.
+     */
+    private void moveNibbles(int from, int to, int count) {
+        if (count == 0 || from == to) {
+            return;
+        }
+        if (((from | to) & 1) == 0) {
+            // A trailing odd digit drags along the nibble after it, which is unused.
+            System.arraycopy(data, from >> 1, data, to >> 1, (count + 1) >> 1);
+        } else if (to > from) {
+            for (int i = count - 1; i >= 0; i--) {
+                setValue(to + i, valueAt(from + i));
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                setValue(to + i, valueAt(from + i));
+            }
+        }
+    }
+
+    /**
+     * Copies a run of digits between two zero-filled packed arrays. When both positions
+     * have the same parity whole bytes are copied; otherwise every byte is rebuilt from
+     * two neighbouring nibbles.
+     *
+     * @param src The array to copy from.
+     * @param from The position of the first digit to copy.
+     * @param dst The array to copy to, zero where the digits will go.
+     * @param to The position the first digit is copied to.
+     * @param count The number of digits to copy.
+     */
+    private static void copyNibbles(byte[] src, int from, byte[] dst, int to, int count) {
+        if (count == 0) {
+            return;
+        }
+        if (((from ^ to) & 1) == 0) {
+            // Same parity: fix up a leading odd nibble, then copy bytes.
+            if ((from & 1) == 1) {
+                dst[to >> 1] |= src[from >> 1] & 0x0F;
+                from++;
+                to++;
+                count--;
+            }
+            System.arraycopy(src, from >> 1, dst, to >> 1, count >> 1);
+            if ((count & 1) == 1) {
+                dst[(to + count) >> 1] |= src[(from + count) >> 1] & 0xF0;
+            }
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            int b = src[(from + i) >> 1];
+            int value = ((from + i) & 1) == 0 ? (b >> 4) & 0xF : b & 0xF;
+            int t = to + i;
+            dst[t >> 1] |= (t & 1) == 0 ? value << 4 : value;
+        }
+    }
+}
@@ -1,5 +1,23 @@
 package LinkedNumbers;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
 public class TestLinkedNumber {
 
 	
@@ -121,6 +139,569 @@ public class TestLinkedNumber {
 		return f.equals("21526") && b.equals("62512") && b1 && b2 && b3 && b4 && b5 && b6;
 	}
 	
+	private static boolean test11 () {
+		LinkedNumber ln1 = new LinkedNumber("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF", 16);
+		boolean b1 = ln1.convert(10).toString().equals("1461501637330902918203684832716283019655932542975");
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 4000; i++) {
+			sb.append((char) ('0' + (i * 7 + 3) % 10));
+		}
+		LinkedNumber ln2 = new LinkedNumber(sb.toString(), 10);
+		String expected = new BigInteger(sb.toString()).toString(13).toUpperCase();
+		boolean b2 = ln2.convert(13).toString().equals(expected);
+		boolean b3 = ln2.convert(13).convert(10).equals(ln2);
+		return b1 && b2 && b3;
+	}
+	
+	private static boolean test12 () {
+		LinkedNumber ln1 = new LinkedNumber("0110111", 2);
+		LinkedNumber ln2 = new LinkedNumber("7F3A", 16);
+		LinkedNumber ln3 = new LinkedNumber("0000", 8);
+		boolean b1 = ln1.convert(16).toString().equals("37");
+		boolean b2 = ln2.convert(8).toString().equals("77472");
+		boolean b3 = ln2.convert(4).toString().equals("13330322");
+		boolean b4 = ln2.convert(2).convert(16).equals(ln2);
+		boolean b5 = ln3.convert(2).toString().equals("0");
+		return b1 && b2 && b3 && b4 && b5;
+	}
+	
+	private static boolean test13 () {
+		boolean b1 = Digit.of('7') == Digit.of('7');
+		boolean b2 = Digit.of('B').getValue() == 11 && Digit.of('9').getValue() == 9;
+		boolean b3 = Digit.of('G').getValue() == -1 && Digit.of('-').getValue() == -1;
+		boolean b4 = Digit.of('5').equals(new Digit('5'))
+				&& Digit.of('5').hashCode() == new Digit('5').hashCode();
+		LinkedNumber ln = new LinkedNumber("3F", 16);
+		boolean b5 = ln.getFront().getElement() == Digit.of('3');
+		return b1 && b2 && b3 && b4 && b5;
+	}
+	
+	private static boolean test14 () {
+		LinkedNumber ln = new LinkedNumber("ABCD", 16);
+		ln.setPositionalIndex(true);
+		ln.addDigit(new Digit('7'), 0);
+		ln.addDigit(new Digit('5'), 5);
+		ln.addDigit(new Digit('9'), 3);
+		boolean b1 = ln.toString().equals("5AB9CD7") && ln.hasPositionalIndex();
+		int v = ln.removeDigit(3);
+		boolean b2 = ln.toString().equals("5ABCD7") && v == 9 * 4096;
+		boolean b3 = ln.getDigit(0).getValue() == 7 && ln.getDigit(5).getValue() == 5
+				&& ln.getNumDigits() == 6;
+		String f = traverseForward(ln.getFront());
+		String b = traverseBackward(ln.getRear());
+		ln.setPositionalIndex(false);
+		boolean b4 = !ln.hasPositionalIndex() && ln.toString().equals("5ABCD7");
+		return f.equals("5ABCD7") && b.equals("7DCBA5") && b1 && b2 && b3 && b4;
+	}
+	
+	private static boolean test15 () {
+		LinkedNumber ln1 = new LinkedNumber("FFFF", 16);
+		LinkedNumber ln2 = new LinkedNumber("1", 16);
+		LinkedNumber ln3 = new LinkedNumber("10110", 2);
+		LinkedNumber ln4 = new LinkedNumber("111", 2);
+		boolean b1 = ln1.add(ln2).toString().equals("10000");
+		boolean b2 = ln3.subtract(ln4).toString().equals("1111");
+		boolean b3 = ln1.subtract(ln1).toString().equals("0");
+		ln2.addInPlace(ln1);
+		boolean b4 = ln2.toString().equals("10000");
+		ln2.subtractInPlace(ln1);
+		boolean b5 = ln2.toString().equals("1");
+		boolean b6 = ln4.subtract(ln3).toString().equals("-1111");
+		// Leading zeros of the receiver are removed, as add and subtract do.
+		LinkedNumber padded = new LinkedNumber("0012", 10);
+		padded.addInPlace(new LinkedNumber("1", 10));
+		boolean b7 = padded.toString().equals("13") && padded.equals(new LinkedNumber("13", 10));
+		padded = new LinkedNumber("00100", 10);
+		padded.subtractInPlace(new LinkedNumber("99", 10));
+		boolean b8 = padded.toString().equals("1") && padded.getNumDigits() == 1;
+		return b1 && b2 && b3 && b4 && b5 && b6 && b7 && b8;
+	}
+	
+	private static boolean test16 () {
+		LinkedNumber ln1 = new LinkedNumber("FF", 16);
+		LinkedNumber ln2 = new LinkedNumber("101", 2);
+		boolean b1 = ln1.multiply(ln1).toString().equals("FE01");
+		boolean b2 = ln2.multiply(new LinkedNumber("0", 2)).toString().equals("0");
+		StringBuilder sb1 = new StringBuilder();
+		StringBuilder sb2 = new StringBuilder();
+		for (int i = 0; i < 6000; i++) {
+			sb1.append((char) ('1' + (i * 5) % 7));
+			sb2.append((char) ('0' + (i * 3 + 1) % 8));
+		}
+		LinkedNumber ln3 = new LinkedNumber(sb1.toString(), 8);
+		LinkedNumber ln4 = new LinkedNumber(sb2.toString(), 8);
+		BigInteger product = new BigInteger(sb1.toString(), 8).multiply(new BigInteger(sb2.toString(), 8));
+		String expected = product.toString(8);
+		boolean b3 = ln3.multiply(ln4).toString().equals(expected);
+		return b1 && b2 && b3;
+	}
+	
+	private static boolean test17 () {
+		StringBuilder sb1 = new StringBuilder();
+		StringBuilder sb2 = new StringBuilder();
+		for (int i = 0; i < 8000; i++) {
+			sb1.append(Character.toUpperCase(Character.forDigit((i * 7 + 5) % 16, 16)));
+			sb2.append(Character.toUpperCase(Character.forDigit((i * 11 + 9) % 16, 16)));
+		}
+		LinkedNumber ln1 = new LinkedNumber(sb1.toString(), 16);
+		LinkedNumber ln2 = new LinkedNumber(sb2.toString(), 16);
+		BigInteger x = new BigInteger(sb1.toString(), 16);
+		BigInteger y = new BigInteger(sb2.toString(), 16);
+		boolean b1 = ln1.multiply(ln2).toString().equals(x.multiply(y).toString(16).toUpperCase());
+		boolean b2 = ln1.multiply(ln1).toString().equals(x.multiply(x).toString(16).toUpperCase());
+		return b1 && b2;
+	}
+	
+	private static boolean test18 () {
+		StringBuilder sb1 = new StringBuilder();
+		StringBuilder sb2 = new StringBuilder();
+		for (int i = 0; i < 3000; i++) {
+			sb1.append((char) ('0' + (i * 7 + 3) % 10));
+			if (i < 1200) sb2.append((char) ('0' + (i * 3 + 1) % 10));
+		}
+		LinkedNumber ln1 = new LinkedNumber(sb1.toString(), 10);
+		LinkedNumber ln2 = new LinkedNumber(sb2.toString(), 10);
+		BigInteger x = new BigInteger(sb1.toString());
+		BigInteger y = new BigInteger(sb2.toString());
+		LinkedNumber[] qr = ln1.divideAndRemainder(ln2);
+		boolean b1 = qr[0].toString().equals(x.divide(y).toString())
+				&& qr[1].toString().equals(x.mod(y).toString());
+		LinkedNumber ln3 = new LinkedNumber("1A2B3C4D5E6F", 16);
+		boolean b2 = ln3.divide(new LinkedNumber("7", 16)).toString().equals("3BD089D56A2");
+		boolean b3 = ln3.mod(new LinkedNumber("7", 16)).toString().equals("1");
+		boolean b4 = new LinkedNumber("0012", 10).divide(new LinkedNumber("345", 10)).toString().equals("0");
+		boolean b5 = false;
+		try {
+			ln1.divide(new LinkedNumber("000", 10));
+		} catch (LinkedNumberException e) {
+			b5 = true;
+		}
+		return b1 && b2 && b3 && b4 && b5;
+	}
+	
+	private static boolean test19 () {
+		BigInteger m = BigInteger.ONE.shiftLeft(2048).subtract(new BigInteger("159"));
+		BigInteger x = new BigInteger("123456789123456789123456789");
+		BigInteger e = BigInteger.ONE.shiftLeft(1024).add(BigInteger.TEN);
+		LinkedNumber lm = new LinkedNumber(m.toString(), 10);
+		LinkedNumber lx = new LinkedNumber(x.toString(), 10);
+		LinkedNumber le = new LinkedNumber(e.toString(), 10);
+		boolean b1 = lx.modPow(le, lm).toString().equals(x.modPow(e, m).toString());
+		// Even modulus.
+		BigInteger m2 = m.add(BigInteger.ONE);
+		LinkedNumber lm2 = new LinkedNumber(m2.toString(), 10);
+		boolean b2 = lx.modPow(le, lm2).toString().equals(x.modPow(e, m2).toString());
+		LinkedNumber zeroExp = new LinkedNumber("0", 2);
+		LinkedNumber seven = new LinkedNumber("111", 2);
+		boolean b3 = new LinkedNumber("101", 2).modPow(zeroExp, seven).toString().equals("1");
+		LinkedNumber one = new LinkedNumber("1", 8);
+		boolean b4 = new LinkedNumber("7", 8).modPow(new LinkedNumber("3", 8), one).toString().equals("0");
+		return b1 && b2 && b3 && b4;
+	}
+	
+	private static boolean test20 () {
+		BigInteger f0 = BigInteger.ONE;
+		BigInteger f1 = BigInteger.ONE;
+		for (int i = 0; i < 3000; i++) {
+			BigInteger t = f0.add(f1);
+			f0 = f1;
+			f1 = t;
+		}
+		BigInteger g = new BigInteger("987654321987654321");
+		BigInteger x = f1.multiply(g);
+		BigInteger y = f0.multiply(g);
+		LinkedNumber lx = new LinkedNumber(x.toString(), 10);
+		LinkedNumber ly = new LinkedNumber(y.toString(), 10);
+		boolean b1 = lx.gcd(ly).toString().equals(g.toString());
+		boolean b2 = new LinkedNumber("0", 16).gcd(new LinkedNumber("00FF", 16)).toString().equals("FF");
+		LinkedNumber lf1 = new LinkedNumber(f1.toString(), 10);
+		LinkedNumber lf0 = new LinkedNumber(f0.toString(), 10);
+		boolean b3 = lf0.modInverse(lf1).toString().equals(f0.modInverse(f1).toString());
+		boolean b4 = new LinkedNumber("3", 10).modInverse(new LinkedNumber("11", 10)).toString().equals("4");
+		boolean b5 = false;
+		try {
+			lx.modInverse(ly);
+		} catch (LinkedNumberException e) {
+			b5 = true;
+		}
+		return b1 && b2 && b3 && b4 && b5;
+	}
+	
+	private static boolean test21 () {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			sb.append((char) ('0' + (i * 7 + 1) % 10));
+		}
+		BigInteger x = new BigInteger(sb.toString());
+		LinkedNumber ln = new LinkedNumber(sb.toString(), 10);
+		boolean b1 = ln.sqrt().toString().equals(x.sqrt().toString());
+		BigInteger c = new BigInteger(ln.root(3).toString());
+		boolean b2 = c.pow(3).compareTo(x) <= 0 && c.add(BigInteger.ONE).pow(3).compareTo(x) > 0;
+		boolean b3 = new LinkedNumber("1000000", 2).sqrt().toString().equals("1000");
+		boolean b4 = new LinkedNumber("FFFF", 16).root(100).toString().equals("1");
+		boolean b5 = new LinkedNumber("0", 10).sqrt().toString().equals("0");
+		boolean b6 = false;
+		try {
+			ln.root(0);
+		} catch (LinkedNumberException e) {
+			b6 = true;
+		}
+		// Odd roots of negative numbers are truncated towards zero.
+		boolean b7 = new LinkedNumber("-9", 10).root(3).toString().equals("-2")
+				&& new LinkedNumber("-8", 10).root(3).toString().equals("-2")
+				&& new LinkedNumber("-1B", 16).root(3).toString().equals("-3");
+		return b1 && b2 && b3 && b4 && b5 && b6 && b7;
+	}
+	
+	private static boolean test22 () {
+		List<LinkedNumber> list = new ArrayList<>();
+		Random random = new Random(7);
+		int[] bases = {2, 3, 8, 10, 16};
+		for (int i = 0; i < 300; i++) {
+			BigInteger v = new BigInteger(1 + random.nextInt(300), random);
+			if (i % 10 == 0) v = BigInteger.TEN.pow(random.nextInt(80));
+			int b = bases[random.nextInt(bases.length)];
+			list.add(new LinkedNumber("00" + v.toString(b).toUpperCase(), b));
+		}
+		Collections.sort(list);
+		boolean b1 = true;
+		for (int i = 1; i < list.size(); i++) {
+			BigInteger prev = new BigInteger(list.get(i - 1).toString(), list.get(i - 1).getBase());
+			BigInteger curr = new BigInteger(list.get(i).toString(), list.get(i).getBase());
+			if (prev.compareTo(curr) > 0) b1 = false;
+		}
+		boolean b2 = new LinkedNumber("FF", 16).compareTo(new LinkedNumber("11111111", 2)) == 0;
+		boolean b3 = new LinkedNumber("0099", 10).compareTo(new LinkedNumber("100", 10)) < 0;
+		boolean b4 = new LinkedNumber("0", 7).compareTo(new LinkedNumber("000", 3)) == 0;
+		return b1 && b2 && b3 && b4;
+	}
+	
+	private static boolean test23 () {
+		LinkedNumber ln1 = new LinkedNumber("1A2B", 16);
+		LinkedNumber ln2 = new LinkedNumber("1A2B", 16);
+		Object obj = ln2;
+		boolean b1 = ln1.equals(obj) && ln1.hashCode() == ln2.hashCode();
+		Set<LinkedNumber> set = new HashSet<>();
+		set.add(ln1);
+		boolean b2 = set.contains(ln2) && !set.contains(new LinkedNumber("1A2B", 15))
+				&& !set.contains(new LinkedNumber("01A2B", 16));
+		// Mutating a number refreshes its hash.
+		ln2.addDigit(new Digit('C'), 0);
+		boolean b3 = !ln1.equals(obj) && ln2.hashCode() == new LinkedNumber("1A2BC", 16).hashCode();
+		ln2.removeDigit(0);
+		boolean b4 = ln1.equals(obj) && ln2.hashCode() == ln1.hashCode();
+		ln2.addInPlace(new LinkedNumber("1", 16));
+		boolean b5 = ln2.hashCode() == new LinkedNumber("1A2C", 16).hashCode()
+				&& !ln1.equals((Object) "1A2B");
+		return b1 && b2 && b3 && b4 && b5;
+	}
+	
+	private static boolean test24 () {
+		LinkedNumber hex = new LinkedNumber("FF", 16);
+		LinkedNumber dec = new LinkedNumber("255", 10);
+		LinkedNumber bin = new LinkedNumber("0011111111", 2);
+		LinkedNumber oct = new LinkedNumber("377", 8);
+		boolean b1 = hex.valueEquals(dec) && dec.valueEquals(bin) && bin.valueEquals(oct)
+				&& oct.valueEquals(hex);
+		boolean b2 = new LinkedNumber("0110111", 2).valueEquals(new LinkedNumber("110111", 2));
+		boolean b3 = new LinkedNumber("100", 3).valueEquals(new LinkedNumber("010", 9))
+				&& !new LinkedNumber("100", 3).valueEquals(new LinkedNumber("11", 9));
+		boolean b4 = !dec.valueEquals(new LinkedNumber("256", 10))
+				&& !bin.valueEquals(new LinkedNumber("FE", 16));
+		boolean b5 = bin.canonical().toString().equals("FF") && bin.canonical() == bin.canonical();
+		bin.addDigit(new Digit('1'), 0);
+		boolean b6 = bin.canonical().toString().equals("1FF")
+				&& new LinkedNumber("0", 10).canonical().toString().equals("0");
+		// The shared canonical form cannot be changed through the returned number.
+		LinkedNumber padded = new LinkedNumber("00FF", 16);
+		boolean b7 = false;
+		try {
+			padded.canonical().addDigit(new Digit('1'), 0);
+		} catch (LinkedNumberException e) {
+			b7 = padded.canonical().toString().equals("FF");
+		}
+		try {
+			padded.canonical().negate();
+			b7 = false;
+		} catch (LinkedNumberException e) {
+			b7 = b7 && padded.canonical().signum() == 1;
+		}
+		return b1 && b2 && b3 && b4 && b5 && b6 && b7;
+	}
+	
+	private static boolean test25 () {
+		LinkedNumber ln1 = new LinkedNumber("-1A", 16);
+		LinkedNumber ln2 = new LinkedNumber(-42);
+		boolean b1 = ln1.isValidNumber() && ln1.toString().equals("-1A") && ln1.getNumDigits() == 2
+				&& ln1.signum() == -1;
+		boolean b2 = ln2.toString().equals("-42") && ln1.convert(10).toString().equals("-26")
+				&& ln1.valueEquals(new LinkedNumber("-26", 10));
+		boolean b3 = ln1.add(new LinkedNumber("1A", 16)).toString().equals("0")
+				&& ln1.subtract(new LinkedNumber("6", 16)).toString().equals("-20");
+		boolean b4 = ln2.multiply(new LinkedNumber("-2", 10)).toString().equals("84")
+				&& ln2.divide(new LinkedNumber("5", 10)).toString().equals("-8")
+				&& ln2.mod(new LinkedNumber("5", 10)).toString().equals("3");
+		boolean b5 = !ln1.equals(new LinkedNumber("1A", 16))
+				&& ln1.compareTo(new LinkedNumber("0", 2)) < 0;
+		ln1.negate();
+		boolean b6 = ln1.toString().equals("1A") && ln1.equals(new LinkedNumber("1A", 16));
+		ln2.addInPlace(new LinkedNumber("50", 10));
+		boolean b7 = ln2.toString().equals("8");
+		ln2.subtractInPlace(new LinkedNumber("100", 10));
+		boolean b8 = ln2.toString().equals("-92");
+		String msg = "";
+		try {
+			new LinkedNumber("-", 10);
+		} catch (LinkedNumberException e) {
+			msg = e.getMessage();
+		}
+		boolean b9 = msg.equals("no digits given");
+		return b1 && b2 && b3 && b4 && b5 && b6 && b7 && b8 && b9;
+	}
+	
+	private static boolean test26 () {
+		LinkedNumber ln = new LinkedNumber("1A.F3", 16);
+		boolean b1 = ln.toString().equals("1A.F3") && ln.getFractionDigits() == 2
+				&& ln.getNumDigits() == 4;
+		boolean b2 = ln.convert(10, 2, RoundingMode.HALF_UP).toString().equals("26.95")
+				&& ln.convert(10, 2, RoundingMode.DOWN).toString().equals("26.94")
+				&& ln.convert(10).toString().equals("26.949");
+		LinkedNumber neg = new LinkedNumber("-0.1", 10);
+		boolean b3 = neg.convert(2, 3, RoundingMode.FLOOR).toString().equals("-0.001")
+				&& neg.convert(2, 3, RoundingMode.CEILING).toString().equals("0.000")
+				&& new LinkedNumber("0.9996", 10).convert(10, 3, RoundingMode.HALF_EVEN)
+						.toString().equals("1.000");
+		boolean b4 = ln.compareTo(new LinkedNumber("26.95", 10)) < 0
+				&& ln.valueEquals(new LinkedNumber("26.94921875", 10))
+				&& new LinkedNumber("0.50", 10).valueEquals(new LinkedNumber("0.1", 2));
+		boolean b5 = false;
+		try {
+			new LinkedNumber("0.1", 3).convert(10, 4, RoundingMode.UNNECESSARY);
+		} catch (LinkedNumberException e) {
+			b5 = true;
+		}
+		try {
+			ln.add(new LinkedNumber("1", 16));
+			b5 = false;
+		} catch (LinkedNumberException e) {
+		}
+		LinkedNumber edited = new LinkedNumber("1.5", 10);
+		edited.addDigit(Digit.of('7'), 0);
+		boolean b6 = edited.toString().equals("1.57") && edited.getFractionDigits() == 2;
+		edited.addDigit(Digit.of('3'), 2);
+		b6 = b6 && edited.toString().equals("13.57");
+		edited.removeDigit(0);
+		b6 = b6 && edited.toString().equals("13.5");
+		edited.removeDigit(0);
+		b6 = b6 && edited.toString().equals("13") && edited.getFractionDigits() == 0;
+		LinkedNumber small = new LinkedNumber("0.05", 10);
+		small.removeDigit(2);
+		boolean b7 = small.toString().equals("0.05") && small.getNumDigits() == 2;
+		small.removeDigit(1);
+		b7 = b7 && small.toString().equals("0.5");
+		return b1 && b2 && b3 && b4 && b5 && b6 && b7;
+	}
+	
+	private static boolean test27 () {
+		byte[] bytes = "xx-1A.F3yy".getBytes(StandardCharsets.US_ASCII);
+		LinkedNumber ln1 = LinkedNumber.valueOf(bytes, 2, 6, 16);
+		boolean b1 = ln1.toString().equals("-1A.F3") && ln1.equals(new LinkedNumber("-1A.F3", 16));
+		ByteBuffer direct = ByteBuffer.allocateDirect(16);
+		direct.put("  7FF".getBytes(StandardCharsets.US_ASCII)).flip().position(2);
+		LinkedNumber ln2 = LinkedNumber.valueOf(direct, 16);
+		boolean b2 = ln2.toString().equals("7FF") && direct.position() == 2 && ln2.isValidNumber();
+		LinkedNumber ln3 = LinkedNumber.valueOf(new StringBuilder("10101"), 2);
+		boolean b3 = ln3.toString().equals("10101") && ln3.getNumDigits() == 5;
+		ByteBuffer notOctal = ByteBuffer.wrap("19".getBytes(StandardCharsets.US_ASCII));
+		boolean b4 = !LinkedNumber.valueOf(notOctal, 8).isValidNumber();
+		boolean b5 = false;
+		try {
+			LinkedNumber.valueOf(bytes, 8, 5, 10);
+		} catch (IndexOutOfBoundsException e) {
+			b5 = true;
+		}
+		return b1 && b2 && b3 && b4 && b5;
+	}
+	
+	private static boolean test28 () throws IOException {
+		StringBuilder sb = new StringBuilder("-");
+		Random random = new Random(28);
+		for (int i = 0; i < 50000; i++) {
+			sb.append((char) ('0' + random.nextInt(8)));
+		}
+		sb.append(".17\n");
+		byte[] bytes = sb.toString().getBytes(StandardCharsets.US_ASCII);
+		LinkedNumber expected = new LinkedNumber(sb.substring(0, sb.length() - 1), 8);
+		LinkedNumber ln1 = LinkedNumber.read(new ByteArrayInputStream(bytes), 8);
+		LinkedNumber ln2 = LinkedNumber.read(Channels.newChannel(new ByteArrayInputStream(bytes)), 8);
+		boolean b1 = ln1.equals(expected) && ln2.equals(expected) && ln1.getFractionDigits() == 2;
+		boolean b2 = false;
+		try {
+			LinkedNumber.read(new ByteArrayInputStream("12345678".getBytes(StandardCharsets.US_ASCII)), 8);
+		} catch (LinkedNumberException e) {
+			b2 = e.getMessage().equals("invalid character '8' at position 7");
+		}
+		boolean b3 = false;
+		try {
+			LinkedNumber.read(new ByteArrayInputStream("\n".getBytes(StandardCharsets.US_ASCII)), 8);
+		} catch (LinkedNumberException e) {
+			b3 = e.getMessage().equals("no digits given");
+		}
+		return b1 && b2 && b3;
+	}
+	
+	private static boolean test29 () throws IOException {
+		Path file = Files.createTempFile("linkednumber", ".txt");
+		try {
+			Files.write(file, "-7F3A0\r\n".getBytes(StandardCharsets.US_ASCII));
+			LinkedNumber mapped = LinkedNumber.map(file, 16);
+			boolean b1 = mapped.getNumDigits() == 5 && mapped.isValidNumber()
+					&& mapped.toString().equals("-7F3A0")
+					&& mapped.equals(new LinkedNumber("-7F3A0", 16))
+					&& mapped.getRear().getPrev().getElement() == Digit.of('A');
+			boolean b2 = mapped.convert(2).toString().equals("-1111111001110100000")
+					&& mapped.convert(8).equals(new LinkedNumber("-7F3A0", 16).convert(8));
+			StringBuilder forward = new StringBuilder();
+			for (DigitCursor c = mapped.cursor(); c.hasNext(); ) {
+				forward.append(c.next());
+			}
+			StringBuilder backward = new StringBuilder();
+			for (DigitCursor c = mapped.cursorAtRear(); c.hasPrevious(); ) {
+				backward.append(c.previous());
+			}
+			boolean b3 = forward.toString().equals("7F3A0") && backward.toString().equals("0A3F7");
+			boolean b4 = false;
+			try {
+				mapped.addDigit(Digit.of('1'), 0);
+			} catch (LinkedNumberException e) {
+				b4 = mapped.toString().equals("-7F3A0");
+			}
+			// Building the index would copy the file and make it writable.
+			try {
+				mapped.setPositionalIndex(true);
+				b4 = false;
+			} catch (LinkedNumberException e) {
+				b4 = b4 && !mapped.hasPositionalIndex();
+			}
+			try {
+				mapped.addInPlace(new LinkedNumber("2", 16));
+				b4 = false;
+			} catch (LinkedNumberException e) {
+				b4 = b4 && mapped.toString().equals("-7F3A0");
+			}
+			Files.write(file, "12".getBytes(StandardCharsets.US_ASCII));
+			boolean b5 = !LinkedNumber.map(file, 2).isValidNumber();
+			return b1 && b2 && b3 && b4 && b5;
+		} finally {
+			Files.delete(file);
+		}
+	}
+	
+	private static boolean test30 () {
+		LinkedNumber ln = new LinkedNumber("0123456701234567012345670123456701234567", 8);
+		boolean b1 = ln.isValidNumber() && ln.indexOfInvalidDigit() == -1;
+		ln.addDigit(Digit.of('9'), 5);
+		boolean b2 = !ln.isValidNumber() && ln.indexOfInvalidDigit() == 35;
+		ln.setPositionalIndex(true);
+		boolean b3 = ln.indexOfInvalidDigit() == 35;
+		LinkedNumber odd = new LinkedNumber("0123456789ABCDEFxyz", 16);
+		boolean b4 = odd.indexOfInvalidDigit() == 16
+				&& new LinkedNumber("FFFFFFFFFFFFFFFFFFFF", 15).indexOfInvalidDigit() == 0;
+		byte[] bytes = "--1234567890123456789a".getBytes(StandardCharsets.US_ASCII);
+		boolean b5 = LinkedNumber.indexOfInvalidDigit(bytes, 2, 19, 10) == -1
+				&& LinkedNumber.indexOfInvalidDigit(bytes, 2, 20, 10) == 19
+				&& LinkedNumber.indexOfInvalidDigit(bytes, 2, 19, 9) == 8;
+		return b1 && b2 && b3 && b4 && b5;
+	}
+	
+	private static boolean test31 () {
+		LinkedNumber ln = new LinkedNumber("1234567", 8);
+		boolean b1 = ln.isValidNumber();
+		ln.addDigit(Digit.of('8'), 3);
+		ln.addDigit(Digit.of('8'), 0);
+		boolean b2 = !ln.isValidNumber() && ln.indexOfInvalidDigit() == 4;
+		ln.removeDigit(0);
+		boolean b3 = !ln.isValidNumber();
+		ln.removeDigit(3);
+		boolean b4 = ln.isValidNumber() && ln.toString().equals("1234567");
+		ln.addInPlace(new LinkedNumber("1", 8));
+		ln.addDigit(Digit.of('X'), 0);
+		boolean b5 = !ln.isValidNumber() && ln.indexOfInvalidDigit() == 7;
+		ln.removeDigit(0);
+		return b1 && b2 && b3 && b4 && b5 && ln.isValidNumber() && ln.toString().equals("1234570");
+	}
+	
+	private static boolean test32 () throws IOException {
+		StringBuilder sb = new StringBuilder("-");
+		Random random = new Random(32);
+		for (int i = 0; i < 20000; i++) {
+			sb.append("0123456789ABCDEF".charAt(random.nextInt(16)));
+		}
+		sb.append(".8");
+		LinkedNumber ln = new LinkedNumber(sb.toString(), 16);
+		StringWriter writer = new StringWriter();
+		ln.writeTo(writer);
+		StringBuilder appendable = new StringBuilder();
+		ln.writeTo(appendable);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ln.writeTo(Channels.newChannel(bytes));
+		boolean b1 = writer.toString().equals(sb.toString())
+				&& appendable.toString().equals(sb.toString())
+				&& bytes.toString("US-ASCII").equals(sb.toString())
+				&& ln.toString().equals(sb.toString());
+		LinkedNumber small = new LinkedNumber("0.05", 10);
+		small.removeDigit(2);
+		StringWriter out = new StringWriter();
+		small.writeTo(out);
+		boolean b2 = small.toString().equals("0.05") && out.toString().equals("0.05");
+		return b1 && b2;
+	}
+	
+	private static boolean test33 () throws IOException {
+		LinkedNumber zero = new LinkedNumber("0", 10);
+		zero.negate();
+		boolean b1 = zero.toString().equals("0") && zero.equals(new LinkedNumber("0", 10))
+				&& zero.hashCode() == new LinkedNumber("0", 10).hashCode() && zero.signum() == 0;
+		LinkedNumber parsed = new LinkedNumber("-000", 16);
+		boolean b2 = parsed.toString().equals("000") && parsed.equals(new LinkedNumber("000", 16));
+		byte[] negativeZero = "-0.0\n".getBytes(StandardCharsets.US_ASCII);
+		boolean b3 = LinkedNumber.read(new ByteArrayInputStream(negativeZero), 10).toString().equals("0.0")
+				&& LinkedNumber.valueOf("-0", 2).signum() == 0
+				&& new LinkedNumber(-0).toString().equals("0");
+		LinkedNumber five = new LinkedNumber("5", 10);
+		five.negate();
+		boolean b4 = five.toString().equals("-5");
+		five.negate();
+		// Removing the last non-zero digit of a negative number leaves plain zero.
+		LinkedNumber small = new LinkedNumber("-05", 10);
+		small.removeDigit(0);
+		boolean b5 = small.toString().equals("0") && small.signum() == 0;
+		// A number with every digit removed reads as 0 and equals it.
+		small.removeDigit(0);
+		LinkedNumber point = new LinkedNumber(".5", 10);
+		boolean b6 = small.toString().equals("0") && small.equals(new LinkedNumber("0", 10))
+				&& small.hashCode() == new LinkedNumber("0", 10).hashCode()
+				&& point.equals(new LinkedNumber("0.5", 10))
+				&& point.hashCode() == new LinkedNumber("0.5", 10).hashCode();
+		return b1 && b2 && b3 && b4 && b5 && b6 && five.toString().equals("5");
+	}
+	
+	private static boolean test34 () {
+		boolean ok = true;
+		// The same emptied number in the packed, unrolled and indexed stores.
+		for (int mode = 0; mode < 3; mode++) {
+			LinkedNumber ln = new LinkedNumber(mode == 1 ? "Z1" : "1", 16);
+			if (mode == 1) ln.removeDigit(1);
+			if (mode == 2) ln.setPositionalIndex(true);
+			ln.removeDigit(0);
+			ok = ok && ln.getNumDigits() == 0 && ln.isValidNumber();
+			for (int b : new int[] {2, 4, 8, 16, 10}) {
+				ok = ok && ln.convert(b).equals(new LinkedNumber("0", b));
+			}
+			ok = ok && ln.canonical().toString().equals("0") && ln.valueEquals(new LinkedNumber("0", 10));
+		}
+		return ok;
+	}
 	
 	public static void main(String[] args) {
 
@@ -183,6 +764,150 @@ public class TestLinkedNumber {
 			if (test10()) System.out.println("Test 10 Passed");
 			else System.out.println("Test 10 Failed");
 		} catch (Exception e) { System.out.println("Test 10 Failed (exception)"); }
+		
+		// convert large numbers
+		try {
+			if (test11()) System.out.println("Test 11 Passed");
+			else System.out.println("Test 11 Failed");
+		} catch (Exception e) { System.out.println("Test 11 Failed (exception)"); }
+		
+		// convert between power-of-two bases
+		try {
+			if (test12()) System.out.println("Test 12 Passed");
+			else System.out.println("Test 12 Failed");
+		} catch (Exception e) { System.out.println("Test 12 Failed (exception)"); }
+		
+		// digit flyweights
+		try {
+			if (test13()) System.out.println("Test 13 Passed");
+			else System.out.println("Test 13 Failed");
+		} catch (Exception e) { System.out.println("Test 13 Failed (exception)"); }
+		
+		// positional index
+		try {
+			if (test14()) System.out.println("Test 14 Passed");
+			else System.out.println("Test 14 Failed");
+		} catch (Exception e) { System.out.println("Test 14 Failed (exception)"); }
+		
+		// add and subtract
+		try {
+			if (test15()) System.out.println("Test 15 Passed");
+			else System.out.println("Test 15 Failed");
+		} catch (Exception e) { System.out.println("Test 15 Failed (exception)"); }
+		
+		// multiply
+		try {
+			if (test16()) System.out.println("Test 16 Passed");
+			else System.out.println("Test 16 Failed");
+		} catch (Exception e) { System.out.println("Test 16 Failed (exception)"); }
+		
+		// multiply large numbers
+		try {
+			if (test17()) System.out.println("Test 17 Passed");
+			else System.out.println("Test 17 Failed");
+		} catch (Exception e) { System.out.println("Test 17 Failed (exception)"); }
+		
+		// divide, mod and divideAndRemainder
+		try {
+			if (test18()) System.out.println("Test 18 Passed");
+			else System.out.println("Test 18 Failed");
+		} catch (Exception e) { System.out.println("Test 18 Failed (exception)"); }
+		
+		// modPow
+		try {
+			if (test19()) System.out.println("Test 19 Passed");
+			else System.out.println("Test 19 Failed");
+		} catch (Exception e) { System.out.println("Test 19 Failed (exception)"); }
+		
+		// gcd and modInverse
+		try {
+			if (test20()) System.out.println("Test 20 Passed");
+			else System.out.println("Test 20 Failed");
+		} catch (Exception e) { System.out.println("Test 20 Failed (exception)"); }
+		
+		// sqrt and root
+		try {
+			if (test21()) System.out.println("Test 21 Passed");
+			else System.out.println("Test 21 Failed");
+		} catch (Exception e) { System.out.println("Test 21 Failed (exception)"); }
+		
+		// compareTo
+		try {
+			if (test22()) System.out.println("Test 22 Passed");
+			else System.out.println("Test 22 Failed");
+		} catch (Exception e) { System.out.println("Test 22 Failed (exception)"); }
+		
+		// equals(Object) and hashCode
+		try {
+			if (test23()) System.out.println("Test 23 Passed");
+			else System.out.println("Test 23 Failed");
+		} catch (Exception e) { System.out.println("Test 23 Failed (exception)"); }
+		
+		// valueEquals and canonical
+		try {
+			if (test24()) System.out.println("Test 24 Passed");
+			else System.out.println("Test 24 Failed");
+		} catch (Exception e) { System.out.println("Test 24 Failed (exception)"); }
+		
+		// signed numbers
+		try {
+			if (test25()) System.out.println("Test 25 Passed");
+			else System.out.println("Test 25 Failed");
+		} catch (Exception e) { System.out.println("Test 25 Failed (exception)"); }
+		
+		// radix point and fractional conversion
+		try {
+			if (test26()) System.out.println("Test 26 Passed");
+			else System.out.println("Test 26 Failed");
+		} catch (Exception e) { System.out.println("Test 26 Failed (exception)"); }
+		
+		// factories parsing CharSequence, byte[] and ByteBuffer
+		try {
+			if (test27()) System.out.println("Test 27 Passed");
+			else System.out.println("Test 27 Failed");
+		} catch (Exception e) { System.out.println("Test 27 Failed (exception)"); }
+		
+		// streaming parser from InputStream and ReadableByteChannel
+		try {
+			if (test28()) System.out.println("Test 28 Passed");
+			else System.out.println("Test 28 Failed");
+		} catch (Exception e) { System.out.println("Test 28 Failed (exception)"); }
+		
+		// memory-mapped numbers and digit cursors
+		try {
+			if (test29()) System.out.println("Test 29 Passed");
+			else System.out.println("Test 29 Failed");
+		} catch (Exception e) { System.out.println("Test 29 Failed (exception)"); }
+		
+		// word-at-a-time digit validation
+		try {
+			if (test30()) System.out.println("Test 30 Passed");
+			else System.out.println("Test 30 Failed");
+		} catch (Exception e) { System.out.println("Test 30 Failed (exception)"); }
+		
+		// constant-time validity through digit counts
+		try {
+			if (test31()) System.out.println("Test 31 Passed");
+			else System.out.println("Test 31 Failed");
+		} catch (Exception e) { System.out.println("Test 31 Failed (exception)"); }
+		
+		// streaming output through writeTo
+		try {
+			if (test32()) System.out.println("Test 32 Passed");
+			else System.out.println("Test 32 Failed");
+		} catch (Exception e) { System.out.println("Test 32 Failed (exception)"); }
+		
+		// zero is never negative
+		try {
+			if (test33()) System.out.println("Test 33 Passed");
+			else System.out.println("Test 33 Failed");
+		} catch (Exception e) { System.out.println("Test 33 Failed (exception)"); }
+		
+		// converting a number with every digit removed
+		try {
+			if (test34()) System.out.println("Test 34 Passed");
+			else System.out.println("Test 34 Failed");
+		} catch (Exception e) { System.out.println("Test 34 Failed (exception)"); }
 
 	}
 	